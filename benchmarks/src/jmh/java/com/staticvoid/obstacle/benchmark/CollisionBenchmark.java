@@ -0,0 +1,72 @@
+package com.staticvoid.obstacle.benchmark;
+
+import com.staticvoid.obstacle.config.GameConfig;
+import com.staticvoid.obstacle.entity.ObstacleActor;
+import com.staticvoid.obstacle.entity.ObstacleGrid;
+import com.staticvoid.obstacle.entity.PlayerActor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// cost of one player vs obstacles collision pass: the plain loop over every
+// obstacle against the ObstacleGrid broad-phase GameSimulation uses
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CollisionBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int obstacleCount;
+
+    private PlayerActor player;
+    private ObstacleActor[] obstacles;
+    private ObstacleGrid obstacleGrid;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        player = new PlayerActor();
+        player.setPosition((GameConfig.WORLD_WIDTH - GameConfig.PLAYER_SIZE) / 2f,
+                GameConfig.PLAYER_SIZE / 2f);
+
+        // spread over the whole world, like a screen full of falling obstacles
+        obstacles = new ObstacleActor[obstacleCount];
+        obstacleGrid = new ObstacleGrid();
+        for (int i = 0; i < obstacleCount; i++) {
+            ObstacleActor obstacle = new ObstacleActor();
+            obstacle.setPosition(
+                    random.nextFloat() * (GameConfig.WORLD_WIDTH - GameConfig.OBSTACLE_SIZE),
+                    random.nextFloat() * GameConfig.WORLD_HEIGHT);
+            obstacles[i] = obstacle;
+            obstacleGrid.add(obstacle);
+        }
+    }
+
+    @Benchmark
+    public int isPlayerColliding() {
+        int hits = 0;
+
+        for (ObstacleActor obstacle : obstacles) {
+            if (obstacle.isPlayerColliding(player)) {
+                hits++;
+            }
+        }
+
+        return hits;
+    }
+
+    @Benchmark
+    public boolean gridIsPlayerColliding() {
+        return obstacleGrid.isPlayerColliding(player);
+    }
+}
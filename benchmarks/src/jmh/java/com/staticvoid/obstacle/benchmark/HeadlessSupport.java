@@ -0,0 +1,66 @@
+package com.staticvoid.obstacle.benchmark;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+
+import java.io.File;
+import java.lang.reflect.Proxy;
+
+// boots a headless libGDX application so benchmarks can use Gdx.files and
+// load fonts/textures without a window
+final class HeadlessSupport {
+
+    private static final String ASSETS_DIR_PROPERTY = "assets.dir";
+    private static final String DEFAULT_ASSETS_DIR = "../assets";
+
+    private static HeadlessApplication application;
+
+    private HeadlessSupport() {
+    }
+
+    static synchronized void start() {
+        if (application != null) {
+            return;
+        }
+
+        application = new HeadlessApplication(new ApplicationAdapter() {
+        });
+
+        // the headless backend ships no GL, textures only need calls that do nothing
+        Gdx.gl = Gdx.gl20 = (GL20) Proxy.newProxyInstance(
+                GL20.class.getClassLoader(),
+                new Class<?>[]{GL20.class},
+                (proxy, method, args) -> defaultValue(method.getReturnType())
+        );
+    }
+
+    static synchronized void stop() {
+        if (application == null) {
+            return;
+        }
+
+        application.exit();
+        application = null;
+    }
+
+    static FileHandle asset(String path) {
+        File assetsDir = new File(System.getProperty(ASSETS_DIR_PROPERTY, DEFAULT_ASSETS_DIR));
+        return Gdx.files.absolute(new File(assetsDir, path).getAbsolutePath());
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == float.class) {
+            return 0f;
+        } else if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,81 @@
+package com.staticvoid.obstacle.benchmark;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+import com.staticvoid.obstacle.assets.AssetPaths;
+import com.staticvoid.obstacle.config.GameConfig;
+import com.staticvoid.obstacle.screen.game.HudCounter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+// text half of GameScreen.renderUi, done every frame.
+// layoutHudText is the old string concat + GlyphLayout path, the counter
+// suites use HudCounter with a changing and with an unchanged value
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HudLayoutBenchmark {
+
+    private final GlyphLayout layout = new GlyphLayout();
+    private BitmapFont font;
+    private HudCounter livesCounter;
+    private HudCounter scoreCounter;
+
+    private int lives = GameConfig.LIVES_START;
+    private int displayScore;
+
+    @Setup
+    public void setUp() {
+        HeadlessSupport.start();
+        font = new BitmapFont(HeadlessSupport.asset(AssetPaths.UI_FONT));
+        livesCounter = new HudCounter(font, "LIVES: ", 20f, GameConfig.HUD_HEIGHT, GameConfig.HUD_WIDTH, Align.left);
+        scoreCounter = new HudCounter(font, "SCORE: ", 20f, GameConfig.HUD_HEIGHT, GameConfig.HUD_WIDTH, Align.right);
+    }
+
+    @TearDown
+    public void tearDown() {
+        font.dispose();
+        HeadlessSupport.stop();
+    }
+
+    @Benchmark
+    public float layoutHudText() {
+        // score ticks up while playing so the text changes most frames
+        displayScore++;
+
+        String livesText = "LIVES: " + lives;
+        layout.setText(font, livesText);
+        float livesWidth = layout.width;
+
+        String scoreText = "SCORE: " + displayScore;
+        layout.setText(font, scoreText);
+
+        return livesWidth + layout.width;
+    }
+
+    @Benchmark
+    public HudCounter counterChanged() {
+        displayScore++;
+
+        livesCounter.setValue(lives);
+        scoreCounter.setValue(displayScore);
+        return scoreCounter;
+    }
+
+    @Benchmark
+    public HudCounter counterUnchanged() {
+        livesCounter.setValue(lives);
+        scoreCounter.setValue(displayScore);
+        return scoreCounter;
+    }
+}
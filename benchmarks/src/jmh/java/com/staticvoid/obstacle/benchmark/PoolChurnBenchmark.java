@@ -0,0 +1,64 @@
+package com.staticvoid.obstacle.benchmark;
+
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Pools;
+import com.staticvoid.obstacle.entity.ObstacleActor;
+import com.staticvoid.obstacle.util.pool.EntityPool;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// obtain obstacleCount obstacles and free them again, what a restart after a hit
+// does to the pool. shared reflection pool vs the counting EntityPool
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PoolChurnBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int obstacleCount;
+
+    private Pool<ObstacleActor> reflectionPool;
+    private EntityPool<ObstacleActor> entityPool;
+    private ObstacleActor[] inUse;
+
+    @Setup
+    public void setUp() {
+        reflectionPool = Pools.get(ObstacleActor.class);
+        entityPool = new EntityPool<ObstacleActor>("OBSTACLE", ObstacleActor::new,
+                obstacleCount, Integer.MAX_VALUE);
+        entityPool.prewarm();
+        inUse = new ObstacleActor[obstacleCount];
+    }
+
+    @Benchmark
+    public int obtainAndFree() {
+        return churn(reflectionPool);
+    }
+
+    @Benchmark
+    public int entityPoolObtainAndFree() {
+        return churn(entityPool);
+    }
+
+    private int churn(Pool<ObstacleActor> obstaclePool) {
+        for (int i = 0; i < obstacleCount; i++) {
+            inUse[i] = obstaclePool.obtain();
+        }
+
+        for (int i = 0; i < obstacleCount; i++) {
+            obstaclePool.free(inUse[i]);
+            inUse[i] = null;
+        }
+
+        return obstaclePool.getFree();
+    }
+}
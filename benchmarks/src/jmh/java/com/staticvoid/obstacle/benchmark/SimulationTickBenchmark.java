@@ -0,0 +1,59 @@
+package com.staticvoid.obstacle.benchmark;
+
+import com.staticvoid.obstacle.config.DifficultyLevel;
+import com.staticvoid.obstacle.config.GameConfig;
+import com.staticvoid.obstacle.config.ObstacleFieldType;
+import com.staticvoid.obstacle.simulation.GameSimulation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// full GameSimulation.update in throughput mode, reads as ticks per second,
+// with scene2d obstacle actors, the flat ObstacleStore and the ECS entities.
+// a finished game is replaced so every op is a live tick
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SimulationTickBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"ACTORS", "STORE", "ECS"})
+    public ObstacleFieldType obstacleField;
+
+    private GameSimulation simulation;
+    private int tick;
+
+    @Setup
+    public void setUp() {
+        simulation = newSimulation();
+    }
+
+    @Benchmark
+    public int tick() {
+        if (simulation.isGameOver()) {
+            simulation = newSimulation();
+        }
+
+        // sweep left and right so the player actually dodges now and then
+        tick++;
+        simulation.setPlayerInput(((tick / 30) % 3 - 1) * GameSimulation.MAX_INPUT);
+        simulation.update();
+        simulation.getEvents().clear(); // the screen empties it every frame too
+
+        return simulation.getScore();
+    }
+
+    private GameSimulation newSimulation() {
+        return new GameSimulation(DifficultyLevel.MEDIUM, SEED + tick,
+                GameConfig.SIMULATION_TICK_RATE, GameSimulation.newObstacleField(obstacleField));
+    }
+}
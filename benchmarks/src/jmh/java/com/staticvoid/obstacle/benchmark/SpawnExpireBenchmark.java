@@ -0,0 +1,79 @@
+package com.staticvoid.obstacle.benchmark;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Queue;
+import com.staticvoid.obstacle.config.GameConfig;
+import com.staticvoid.obstacle.entity.ObstacleActor;
+import com.staticvoid.obstacle.util.SimulationMath;
+import com.staticvoid.obstacle.util.pool.EntityPool;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// one obstacle expires and one spawns while obstacleCount are alive.
+// array: the old Array.removeValue(first) path that shifts every obstacle
+// queue: the ring buffer ActorObstacleField keeps obstacles in now
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpawnExpireBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int obstacleCount;
+
+    private final Array<ObstacleActor> obstacleArray = new Array<ObstacleActor>();
+    private final Queue<ObstacleActor> obstacleQueue = new Queue<ObstacleActor>();
+    private final Pool<ObstacleActor> obstaclePool = new EntityPool<ObstacleActor>(
+            "OBSTACLE", ObstacleActor::new, 0, Integer.MAX_VALUE);
+    private final Random random = new Random(42);
+
+    @Setup
+    public void setUp() {
+        obstacleArray.clear();
+        obstacleQueue.clear();
+
+        for (int i = 0; i < obstacleCount; i++) {
+            obstacleArray.add(spawn());
+            obstacleQueue.addLast(spawn());
+        }
+    }
+
+    @Benchmark
+    public ObstacleActor arraySpawnAndExpire() {
+        ObstacleActor first = obstacleArray.first();
+        obstacleArray.removeValue(first, true);
+        obstaclePool.free(first);
+
+        ObstacleActor obstacle = spawn();
+        obstacleArray.add(obstacle);
+        return obstacle;
+    }
+
+    @Benchmark
+    public ObstacleActor queueSpawnAndExpire() {
+        obstaclePool.free(obstacleQueue.removeFirst());
+
+        ObstacleActor obstacle = spawn();
+        obstacleQueue.addLast(obstacle);
+        return obstacle;
+    }
+
+    private ObstacleActor spawn() {
+        ObstacleActor obstacle = obstaclePool.obtain();
+        obstacle.setYStep(SimulationMath.perTick(GameConfig.MEDIUM_OBSTACLE_SPEED,
+                GameConfig.SIMULATION_TICK_RATE));
+        obstacle.setPosition(random.nextFloat() * (GameConfig.WORLD_WIDTH - GameConfig.OBSTACLE_SIZE),
+                GameConfig.WORLD_HEIGHT);
+        return obstacle;
+    }
+}
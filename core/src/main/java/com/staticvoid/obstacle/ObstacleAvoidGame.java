@@ -3,44 +3,158 @@ package com.staticvoid.obstacle;
 import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Logger;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.staticvoid.obstacle.assets.StagedAssetLoader;
+import com.staticvoid.obstacle.audio.AudioService;
 import com.staticvoid.obstacle.common.GameManager;
+import com.staticvoid.obstacle.config.GameConfig;
+import com.staticvoid.obstacle.config.ObstacleFieldType;
+import com.staticvoid.obstacle.entity.EntityPools;
+import com.staticvoid.obstacle.screen.ScreenEvictionPolicy;
+import com.staticvoid.obstacle.screen.ScreenRegistry;
 import com.staticvoid.obstacle.screen.loading.LoadingScreen;
+import com.staticvoid.obstacle.screen.menu.HighScoreScreen;
+import com.staticvoid.obstacle.screen.menu.MenuScreen;
+import com.staticvoid.obstacle.screen.menu.OptionsScreen;
+import com.staticvoid.obstacle.util.debug.Tracer;
 
 /**
  * {@link com.badlogic.gdx.ApplicationListener} implementation shared by all platforms.
  */
 public class ObstacleAvoidGame extends Game {
 
+    private static final Logger log =
+            new Logger(ObstacleAvoidGame.class.getName(), Logger.DEBUG);
+
+    private static final int TRACE_DUMP_KEY = Input.Keys.F4;
+
     private AssetManager assetManager;
+    private StagedAssetLoader assetLoader;
+    private AudioService audio;
     private SpriteBatch batch;
+    private ScreenRegistry screenRegistry;
+
+    private boolean recordReplays = GameConfig.RECORD_REPLAYS;
 
     @Override
     public void create() {
+        // launchers without markStartup() trace startup from here
+        Tracer.markStartup();
+        Tracer.begin("ObstacleAvoidGame.create");
         Gdx.app.setLogLevel(Application.LOG_DEBUG);
 
-
         assetManager = new AssetManager();
         assetManager.getLogger().setLevel(Logger.DEBUG);
+        assetLoader = new StagedAssetLoader(assetManager);
+        audio = new AudioService(assetManager, GameConfig.MAX_SOUND_VOICES);
 
         batch = new SpriteBatch();
 
+        // pooled actors are created now, not in the middle of the first game.
+        // only the actor field takes obstacles from the pools
+        if (GameConfig.OBSTACLE_FIELD == ObstacleFieldType.ACTORS) {
+            EntityPools.prewarm();
+        }
+
+        // menus are built once and kept
+        screenRegistry = new ScreenRegistry(this, ScreenEvictionPolicy.KEEP_ALL);
+        screenRegistry.register(MenuScreen.class, () -> new MenuScreen(this));
+        screenRegistry.register(HighScoreScreen.class, () -> new HighScoreScreen(this));
+        screenRegistry.register(OptionsScreen.class, () -> new OptionsScreen(this));
+
         setScreen(new LoadingScreen(this));
+        Tracer.end();
+    }
+
+    @Override
+    public void render() {
+        if (GameConfig.TRACING && Gdx.input.isKeyJustPressed(TRACE_DUMP_KEY)) {
+            dumpTrace();
+        }
+
+        // gameplay assets keep loading behind the menu
+        assetLoader.update();
+
+        super.render();
     }
 
     public AssetManager getAssetManager() {
         return assetManager;
     }
 
+    public StagedAssetLoader getAssetLoader() {
+        return assetLoader;
+    }
+
+    public AudioService getAudio() {
+        return audio;
+    }
+
+    public ScreenRegistry getScreenRegistry() {
+        return screenRegistry;
+    }
+
     public SpriteBatch getBatch() {
         return batch;
     }
 
+    // launchers of development builds turn it on before the game starts
+    public void setRecordReplays(boolean recordReplays) {
+        this.recordReplays = recordReplays;
+    }
+
+    public boolean isRecordReplays() {
+        return recordReplays;
+    }
+
+    @Override
+    public void setScreen(Screen screen) {
+        // old screen's hide() and new screen's show()
+        if (GameConfig.TRACING) {
+            Tracer.begin("setScreen " + screen.getClass().getSimpleName());
+        }
+        super.setScreen(screen);
+        screenRegistry.screenChanged(screen);
+
+        // screen transitions are a safe point to persist high score / options
+        GameManager.INSTANCE.scheduleFlush();
+        Tracer.end();
+    }
+
+    @Override
+    public void pause() {
+        super.pause();
+
+        // app may be killed while paused, write everything now
+        GameManager.INSTANCE.flush();
+    }
+
     @Override
     public void dispose() {
+        super.dispose(); // hides the current screen
+        screenRegistry.dispose();
+        GameManager.INSTANCE.flush();
+
         assetManager.dispose();
         batch.dispose();
     }
+
+    // newest spans in the ring, one file per dump
+    private void dumpTrace() {
+        if (Gdx.app.getType() == Application.ApplicationType.WebGL) {
+            return;
+        }
+
+        FileHandle file = Gdx.files.local(GameConfig.TRACE_DIRECTORY
+                + "trace-" + TimeUtils.millis() + ".json");
+        Tracer.dumpChromeTrace(file);
+        log.debug("Trace saved to " + file.path() + ", " + Tracer.size() + " spans, "
+                + Tracer.getOverwritten() + " overwritten");
+    }
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.staticvoid.obstacle.config.GameConfig;
+import com.staticvoid.obstacle.util.GdxUtils;
 
 /*
 Describes an asset to be loaded by its filename and type.
@@ -14,8 +16,11 @@ public class AssetDescriptors {
     public static final AssetDescriptor<BitmapFont> FONT =
             new AssetDescriptor<BitmapFont>(AssetPaths.UI_FONT, BitmapFont.class);
 
+    // compressed variant where the GPU takes it
     public static final AssetDescriptor<TextureAtlas> GAME_PLAY =
-            new AssetDescriptor<TextureAtlas>(AssetPaths.GAME_PLAY, TextureAtlas.class);
+            new AssetDescriptor<TextureAtlas>(
+                    etc1IfSupported(AssetPaths.GAME_PLAY, AssetPaths.GAME_PLAY_ETC1),
+                    TextureAtlas.class);
 
     public static final AssetDescriptor<TextureAtlas> UI =
             new AssetDescriptor<TextureAtlas>(AssetPaths.UI, TextureAtlas.class);
@@ -38,5 +43,12 @@ public class AssetDescriptors {
     private AssetDescriptors() {
     }
 
+    // runs when this class is first used, after create(), so the GL context is there
+    private static String etc1IfSupported(String path, String etc1Path) {
+        return GameConfig.USE_COMPRESSED_TEXTURES && GdxUtils.isEtc1Supported()
+                ? etc1Path
+                : path;
+    }
+
 
 }
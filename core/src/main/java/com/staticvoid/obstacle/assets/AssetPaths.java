@@ -7,10 +7,16 @@ public class AssetPaths {
 
     public static final String GAME_PLAY = "gameplay/gameplay.atlas";
 
+    // opaque pages ETC1 compressed, the rest RGBA8888, same region names
+    public static final String GAME_PLAY_ETC1 = "gameplay/gameplay-etc1.atlas";
+
     public static final String UI = "ui/ui.atlas";
 
     public static final String UI_SKIN = "ui/uiskin.json";
 
+    // not the default uiskin.atlas, case matters on Android and Linux
+    public static final String UI_SKIN_ATLAS = "ui/uiSkin.atlas";
+
     public static final String HIT = "sounds/hit.wav";
 
     private AssetPaths() {
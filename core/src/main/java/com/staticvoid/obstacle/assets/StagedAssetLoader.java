@@ -0,0 +1,213 @@
+package com.staticvoid.obstacle.assets;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.BitmapFontLoader;
+import com.badlogic.gdx.assets.loaders.SkinLoader;
+import com.badlogic.gdx.assets.loaders.SoundLoader;
+import com.badlogic.gdx.assets.loaders.TextureAtlasLoader;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Logger;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.staticvoid.obstacle.config.GameConfig;
+import com.staticvoid.obstacle.util.debug.Tracer;
+
+// Loads assets in two stages so the menu shows up as early as possible.
+// Menu assets are queued first, gameplay assets after them and keep
+// streaming in under a small per frame budget while the menu is up.
+// Every asset's load time (time spent in AssetManager.update() until its
+// loaded callback, dependencies included) is recorded and logged.
+// Each AssetManager.update() call is a trace span, each finished asset a marker.
+public class StagedAssetLoader implements AssetLoaderParameters.LoadedCallback {
+
+    private static final Logger log =
+            new Logger(StagedAssetLoader.class.getName(), Logger.DEBUG);
+
+    // milliseconds of loading per frame
+    private static final int LOADING_SCREEN_BUDGET = 16; // nothing else to do
+    private static final int BACKGROUND_BUDGET = 4; // menu must stay smooth
+
+    private static final float NANOS_PER_MILLI = 1000000f;
+
+    // menu screens need the skin and the background region, nothing is shown before
+    private static final AssetDescriptor<?>[] MENU_ASSETS = {
+            AssetDescriptors.UI_SKIN,
+            AssetDescriptors.GAME_PLAY
+    };
+
+    // only GameScreen needs these
+    private static final AssetDescriptor<?>[] GAME_ASSETS = {
+            AssetDescriptors.FONT,
+            AssetDescriptors.HIT_SOUND
+    };
+
+    // == attributes
+    private final AssetManager assetManager;
+    private final long startNanos;
+
+    private final Array<String> loadedFiles = new Array<String>();
+    private final LongArray loadNanos = new LongArray();
+
+    private boolean queued;
+    private long segmentStartNanos;
+    private long busyNanos;
+    private long menuReadyNanos = -1;
+    private long allLoadedNanos = -1;
+
+    // == constructors
+    // create as early as possible, startup times are measured from here
+    public StagedAssetLoader(AssetManager assetManager) {
+        this.assetManager = assetManager;
+        startNanos = TimeUtils.nanoTime();
+    }
+
+    // == public methods
+    public void queue() {
+        if (queued) {
+            return;
+        }
+
+        queued = true;
+        queue(MENU_ASSETS);
+        queue(GAME_ASSETS);
+    }
+
+    // call once per frame
+    public void update() {
+        if (!queued || allLoadedNanos >= 0) {
+            return;
+        }
+
+        update(isMenuReady() ? BACKGROUND_BUDGET : LOADING_SCREEN_BUDGET);
+    }
+
+    // blocks until everything GameScreen needs is in, usually it already is
+    public void finishGameAssets() {
+        queue();
+
+        while (!areLoaded(GAME_ASSETS) || !areLoaded(MENU_ASSETS)) {
+            update(LOADING_SCREEN_BUDGET);
+        }
+    }
+
+    public boolean isMenuReady() {
+        return menuReadyNanos >= 0;
+    }
+
+    public float getMenuProgress() {
+        int loaded = 0;
+        for (AssetDescriptor<?> descriptor : MENU_ASSETS) {
+            if (assetManager.isLoaded(descriptor)) {
+                loaded++;
+            }
+        }
+        return (float) loaded / MENU_ASSETS.length;
+    }
+
+    // since construction, negative until reached
+    public long getMenuReadyNanos() {
+        return menuReadyNanos;
+    }
+
+    public long getAllLoadedNanos() {
+        return allLoadedNanos;
+    }
+
+    @Override
+    public void finishedLoading(AssetManager assetManager, String fileName, Class type) {
+        // called from inside AssetManager.update(), the current segment belongs to this asset
+        long now = TimeUtils.nanoTime();
+        long nanos = busyNanos + (now - segmentStartNanos);
+        busyNanos = 0;
+        segmentStartNanos = now;
+
+        loadedFiles.add(fileName);
+        loadNanos.add(nanos);
+        if (GameConfig.TRACING) {
+            Tracer.instant("loaded " + fileName);
+        }
+        log.debug(fileName + " loaded in " + nanos / NANOS_PER_MILLI + " ms");
+    }
+
+    // == private methods
+    private void update(int budgetMillis) {
+        long updateStartNanos = TimeUtils.nanoTime();
+        segmentStartNanos = updateStartNanos;
+        boolean finished = assetManager.update(budgetMillis);
+        long now = TimeUtils.nanoTime();
+        busyNanos += now - segmentStartNanos;
+        Tracer.complete("AssetManager.update", updateStartNanos, now);
+
+        if (menuReadyNanos < 0 && areLoaded(MENU_ASSETS)) {
+            menuReadyNanos = now - startNanos;
+            Tracer.instant("menu ready");
+            log.debug("Menu ready after " + menuReadyNanos / NANOS_PER_MILLI + " ms");
+        }
+
+        if (finished) {
+            allLoadedNanos = now - startNanos;
+            logReport();
+        }
+    }
+
+    private void queue(AssetDescriptor<?>[] descriptors) {
+        for (AssetDescriptor<?> descriptor : descriptors) {
+            queue(descriptor);
+        }
+    }
+
+    private <T> void queue(AssetDescriptor<T> descriptor) {
+        assetManager.load(descriptor.fileName, descriptor.type, newParameters(descriptor));
+    }
+
+    private boolean areLoaded(AssetDescriptor<?>[] descriptors) {
+        for (AssetDescriptor<?> descriptor : descriptors) {
+            if (!assetManager.isLoaded(descriptor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // loaders cast their parameters, each type needs its own parameter class
+    @SuppressWarnings("unchecked")
+    private <T> AssetLoaderParameters<T> newParameters(AssetDescriptor<T> descriptor) {
+        Class<T> type = descriptor.type;
+        AssetLoaderParameters<?> parameters;
+
+        if (type == Skin.class) {
+            String atlasPath = AssetPaths.UI_SKIN.equals(descriptor.fileName)
+                    ? AssetPaths.UI_SKIN_ATLAS
+                    : null; // default, skin name with .atlas
+            parameters = new SkinLoader.SkinParameter(atlasPath);
+        } else if (type == TextureAtlas.class) {
+            parameters = new TextureAtlasLoader.TextureAtlasParameter();
+        } else if (type == BitmapFont.class) {
+            parameters = new BitmapFontLoader.BitmapFontParameter();
+        } else if (type == Sound.class) {
+            parameters = new SoundLoader.SoundParameter();
+        } else {
+            throw new IllegalArgumentException("No loader parameters for " + type.getName());
+        }
+
+        parameters.loadedCallback = this;
+        return (AssetLoaderParameters<T>) parameters;
+    }
+
+    private void logReport() {
+        long totalNanos = 0;
+        for (int i = 0; i < loadedFiles.size; i++) {
+            totalNanos += loadNanos.get(i);
+        }
+
+        log.debug("All assets loaded after " + allLoadedNanos / NANOS_PER_MILLI + " ms, "
+                + totalNanos / NANOS_PER_MILLI + " ms of it loading, menu ready after "
+                + menuReadyNanos / NANOS_PER_MILLI + " ms");
+    }
+}
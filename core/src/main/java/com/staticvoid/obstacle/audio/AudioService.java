@@ -0,0 +1,231 @@
+package com.staticvoid.obstacle.audio;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.Logger;
+import com.badlogic.gdx.utils.TimeUtils;
+
+// Plays every SoundEffect and keeps the number of voices mixed at once bounded,
+// however many hits a frame produces.
+// A sound never has more than its maxVoices playing, the oldest one is restarted
+// instead. Above the global budget a new voice steals the lowest priority, oldest
+// voice, or is dropped when everything playing outranks it.
+//
+// Sound assets are decoded completely when loaded (unlike Music). prepare() takes
+// them from the AssetManager, which still owns and disposes them, and plays each
+// once silently so the backend's first play doesn't happen during a game.
+//
+// Voices live in fixed size parallel arrays, playing allocates nothing.
+public class AudioService {
+
+    private static final Logger log =
+            new Logger(AudioService.class.getName(), Logger.DEBUG);
+
+    private static final SoundEffect[] EFFECTS = SoundEffect.values();
+    private static final long NO_VOICE = -1L; // Sound.play() when the backend has no voice left
+    private static final float NANOS_PER_SECOND = 1000000000f;
+
+    // == attributes
+    private final AssetManager assetManager;
+    private final int maxVoices;
+    private final Sound[] sounds = new Sound[EFFECTS.length];
+
+    // playing voices, unordered, voiceCount are in use
+    private final long[] voiceIds;
+    private final long[] voiceStartNanos;
+    private final long[] voiceEndNanos;
+    private final int[] voiceEffects; // SoundEffect ordinal
+    private int voiceCount;
+
+    // per SoundEffect ordinal
+    private final int[] played = new int[EFFECTS.length];
+    private final int[] dropped = new int[EFFECTS.length];
+    private final int[] stolen = new int[EFFECTS.length];
+
+    // == constructors
+    public AudioService(AssetManager assetManager, int maxVoices) {
+        this.assetManager = assetManager;
+        this.maxVoices = maxVoices;
+        voiceIds = new long[maxVoices];
+        voiceStartNanos = new long[maxVoices];
+        voiceEndNanos = new long[maxVoices];
+        voiceEffects = new int[maxVoices];
+    }
+
+    // == public methods
+    // picks up every sound loaded so far, call again after more have loaded
+    public void prepare() {
+        for (SoundEffect effect : EFFECTS) {
+            int index = effect.ordinal();
+
+            if (sounds[index] == null && assetManager.isLoaded(effect.getDescriptor())) {
+                Sound sound = assetManager.get(effect.getDescriptor());
+                sounds[index] = sound;
+
+                long id = sound.play(0f);
+                if (id != NO_VOICE) {
+                    sound.stop(id);
+                }
+            }
+        }
+    }
+
+    public boolean play(SoundEffect effect) {
+        return play(effect, 1f);
+    }
+
+    // false when the sound was dropped
+    public boolean play(SoundEffect effect, float volume) {
+        int index = effect.ordinal();
+        Sound sound = sounds[index];
+
+        if (sound == null) {
+            // not loaded or not prepared yet
+            dropped[index]++;
+            return false;
+        }
+
+        long now = TimeUtils.nanoTime();
+        removeFinishedVoices(now);
+
+        int victim = -1;
+        if (countVoices(index) >= effect.getMaxVoices()) {
+            victim = oldestVoice(index);
+        } else if (voiceCount >= maxVoices) {
+            victim = weakestVoice(effect.getPriority());
+
+            if (victim < 0) {
+                dropped[index]++;
+                return false;
+            }
+        }
+
+        if (victim >= 0) {
+            sounds[voiceEffects[victim]].stop(voiceIds[victim]);
+            removeVoice(victim);
+            stolen[index]++;
+        }
+
+        long id = sound.play(volume);
+        if (id == NO_VOICE) {
+            dropped[index]++;
+            return false;
+        }
+
+        voiceIds[voiceCount] = id;
+        voiceStartNanos[voiceCount] = now;
+        voiceEndNanos[voiceCount] = now + (long) (effect.getSeconds() * NANOS_PER_SECOND);
+        voiceEffects[voiceCount] = index;
+        voiceCount++;
+
+        played[index]++;
+        return true;
+    }
+
+    public void stopAll() {
+        for (int i = 0; i < voiceCount; i++) {
+            sounds[voiceEffects[i]].stop(voiceIds[i]);
+        }
+        voiceCount = 0;
+    }
+
+    public int getActiveVoices() {
+        removeFinishedVoices(TimeUtils.nanoTime());
+        return voiceCount;
+    }
+
+    public int getMaxVoices() {
+        return maxVoices;
+    }
+
+    public int getPlayed() {
+        return sum(played);
+    }
+
+    public int getDropped() {
+        return sum(dropped);
+    }
+
+    public int getStolen() {
+        return sum(stolen);
+    }
+
+    public void logStats() {
+        for (SoundEffect effect : EFFECTS) {
+            int index = effect.ordinal();
+            log.debug(effect
+                    + " played= " + played[index]
+                    + " dropped= " + dropped[index]
+                    + " stolen= " + stolen[index]
+                    + " maxVoices= " + effect.getMaxVoices());
+        }
+    }
+
+    // == private methods
+    private void removeFinishedVoices(long now) {
+        for (int i = voiceCount - 1; i >= 0; i--) {
+            if (now >= voiceEndNanos[i]) {
+                removeVoice(i);
+            }
+        }
+    }
+
+    // last voice moves into the gap, order doesn't matter
+    private void removeVoice(int voice) {
+        int last = --voiceCount;
+        voiceIds[voice] = voiceIds[last];
+        voiceStartNanos[voice] = voiceStartNanos[last];
+        voiceEndNanos[voice] = voiceEndNanos[last];
+        voiceEffects[voice] = voiceEffects[last];
+    }
+
+    private int countVoices(int effect) {
+        int count = 0;
+        for (int i = 0; i < voiceCount; i++) {
+            if (voiceEffects[i] == effect) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int oldestVoice(int effect) {
+        int oldest = -1;
+        for (int i = 0; i < voiceCount; i++) {
+            if (voiceEffects[i] == effect
+                    && (oldest < 0 || voiceStartNanos[i] < voiceStartNanos[oldest])) {
+                oldest = i;
+            }
+        }
+        return oldest;
+    }
+
+    // lowest priority voice not above priority, oldest on ties, -1 if there is none
+    private int weakestVoice(int priority) {
+        int weakest = -1;
+        int weakestPriority = Integer.MAX_VALUE;
+
+        for (int i = 0; i < voiceCount; i++) {
+            int voicePriority = EFFECTS[voiceEffects[i]].getPriority();
+
+            if (voicePriority > priority) {
+                continue;
+            }
+
+            if (voicePriority < weakestPriority
+                    || (voicePriority == weakestPriority && voiceStartNanos[i] < voiceStartNanos[weakest])) {
+                weakest = i;
+                weakestPriority = voicePriority;
+            }
+        }
+        return weakest;
+    }
+
+    private static int sum(int[] counts) {
+        int sum = 0;
+        for (int count : counts) {
+            sum += count;
+        }
+        return sum;
+    }
+}
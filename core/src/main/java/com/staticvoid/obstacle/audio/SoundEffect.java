@@ -0,0 +1,44 @@
+package com.staticvoid.obstacle.audio;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.audio.Sound;
+import com.staticvoid.obstacle.assets.AssetDescriptors;
+
+// every sound the game plays and its voice budget, played through AudioService.
+// a higher priority steals voices from lower ones when the global budget is used up.
+// seconds is the clip length, Sound can't tell when a voice has finished
+public enum SoundEffect {
+
+    HIT(AssetDescriptors.HIT_SOUND, 10, 3, 0.15f);
+
+    // == attributes
+    private final AssetDescriptor<Sound> descriptor;
+    private final int priority;
+    private final int maxVoices;
+    private final float seconds;
+
+    // == constructors
+    SoundEffect(AssetDescriptor<Sound> descriptor, int priority, int maxVoices, float seconds) {
+        this.descriptor = descriptor;
+        this.priority = priority;
+        this.maxVoices = maxVoices;
+        this.seconds = seconds;
+    }
+
+    // == public methods
+    public AssetDescriptor<Sound> getDescriptor() {
+        return descriptor;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public int getMaxVoices() {
+        return maxVoices;
+    }
+
+    public float getSeconds() {
+        return seconds;
+    }
+}
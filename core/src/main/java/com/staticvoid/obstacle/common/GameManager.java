@@ -5,6 +5,10 @@ import com.badlogic.gdx.Preferences;
 import com.staticvoid.obstacle.ObstacleAvoidGame;
 import com.staticvoid.obstacle.config.DifficultyLevel;
 
+// Preferences are written behind: updates only touch the in-memory
+// Preferences and mark them dirty, the actual file/storage write happens
+// at safe points - one frame after a screen transition (scheduleFlush)
+// or right away on pause/dispose (flush). Several updates coalesce into a single write.
 public class GameManager {
 
     public static final GameManager INSTANCE = new GameManager();
@@ -17,6 +21,17 @@ public class GameManager {
 
     private DifficultyLevel difficultyLevel = DifficultyLevel.MEDIUM; // default
 
+    private boolean dirty; // PREFS has values not written to storage yet
+    private boolean flushScheduled;
+
+    private final Runnable scheduledFlush = new Runnable() {
+        @Override
+        public void run() {
+            flushScheduled = false;
+            flush();
+        }
+    };
+
 
     private GameManager() {
         // SINGLETON
@@ -35,8 +50,12 @@ public class GameManager {
         highscore = score;
 
         PREFS.putInteger(HIGH_SCORE_KEY, highscore);
-        // must ALWAYS flush prior to save or it will fail
-        PREFS.flush();
+        // not flushed here, this runs on the game over frame
+        dirty = true;
+    }
+
+    public int getHighScore() {
+        return highscore;
     }
 
     public String getHighScoreString() {
@@ -53,6 +72,28 @@ public class GameManager {
         } // otherwise,
         difficultyLevel = newDifficultyLevel;
         PREFS.putString(DIFFICULTY_KEY, difficultyLevel.name());
+        dirty = true;
+    }
+
+    // writes pending changes now, use when the app may not get another frame
+    public void flush() {
+        if (!dirty) {
+            return;
+        }
+
+        dirty = false;
+        // must ALWAYS flush prior to save or it will fail
         PREFS.flush();
     }
+
+    // writes pending changes at the start of the next frame,
+    // keeps disk I/O out of the frame that asked for it
+    public void scheduleFlush() {
+        if (!dirty || flushScheduled) {
+            return;
+        }
+
+        flushScheduled = true;
+        Gdx.app.postRunnable(scheduledFlush);
+    }
 }
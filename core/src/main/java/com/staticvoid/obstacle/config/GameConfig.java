@@ -17,16 +17,22 @@ public class GameConfig {
     public static final float WORLD_CENTER_X = WORLD_WIDTH / 2f; // world units
     public static final float WORLD_CENTER_Y = WORLD_HEIGHT / 2f; // world units
 
-    public static final float MAX_PLAYER_X_SPEED = 0.25f; // max player speed
+    public static final float MAX_PLAYER_X_SPEED = 15f; // max player speed, world units per second
 
     public static final float OBSTACLE_SPAWN_TIME = 0.25f; // spawn interval
 
     public static final float SCORE_MAX_TIME = 1.25f; // update score interval
     public static final int LIVES_START = 3; // starting lives
 
-    public static final float EASY_OBSTACLE_SPEED = 0.1f;
-    public static final float MEDIUM_OBSTACLE_SPEED = .15f;
-    public static final float HARD_OBSTACLE_SPEED = .18f;
+    // world units per second
+    public static final float EASY_OBSTACLE_SPEED = 6f;
+    public static final float MEDIUM_OBSTACLE_SPEED = 9f;
+    public static final float HARD_OBSTACLE_SPEED = 10.8f;
+
+    // simulation runs at a fixed rate whatever the display refresh rate is
+    public static final int SIMULATION_TICK_RATE = 60; // ticks per second
+    // catch-up cap after a frame hitch, extra ticks are dropped
+    public static final int MAX_TICKS_PER_FRAME = 5;
 
     // all world units
     public static final float PLAYER_BOUNDS_RADIUS = 0.4f; // world units
@@ -35,6 +41,55 @@ public class GameConfig {
     public static final float OBSTACLE_BOUNDS_RADIUS = 0.3f; // world units
     public static final float OBSTACLE_SIZE = 2 * OBSTACLE_BOUNDS_RADIUS;
 
+    // gameplay runs on the entity component system, menus stay on scene2d.
+    // ACTORS and STORE are kept to compare against, see ObstacleFieldType
+    public static final ObstacleFieldType OBSTACLE_FIELD = ObstacleFieldType.ECS;
+
+    // obstacle actors created while loading and most kept free after a restart,
+    // a full screen at the slowest speed is about 8 obstacles
+    public static final int OBSTACLE_POOL_PREWARM = 16;
+    public static final int OBSTACLE_POOL_MAX = 64;
+
+    // steer by tilting the device, accelerometer x in m/s^2
+    public static final boolean TILT_INPUT = true;
+    public static final float TILT_DEAD_ZONE = 1f; // held almost flat counts as no input
+    public static final float TILT_FULL_SPEED = 4f;
+
+    // world grid and collision circles from the start of a game, F2 toggles them either way
+    public static final boolean DEBUG_OVERLAY_VISIBLE = false;
+
+    // every finished run is written here so it can be played back headless.
+    // off on devices, DesktopLauncher turns it on (ObstacleAvoidGame.setRecordReplays)
+    public static final boolean RECORD_REPLAYS = false;
+    public static final String LAST_REPLAY_FILE = "replays/last.replay";
+
+    // sounds mixed at once at most, see AudioService and SoundEffect for per sound limits
+    public static final int MAX_SOUND_VOICES = 8;
+
+    // load ETC1 atlas variants where the GPU decodes them (most Android devices),
+    // 4 bits per pixel instead of RGBA8888, see AssetPacker
+    public static final boolean USE_COMPRESSED_TEXTURES = true;
+
+    // stress test from the menu: endless, hits cost no lives, the spawn rate
+    // (obstacles per second) grows by STRESS_RAMP_FACTOR until a frame's work
+    // takes longer than the budget, see StressRamp. a benchmark, not for players
+    public static final boolean STRESS_TEST_BUTTON = false;
+    public static final int STRESS_START_SPAWN_RATE = 20;
+    public static final float STRESS_RAMP_FACTOR = 1.5f;
+    public static final float STRESS_FRAME_BUDGET_MS = 16.6f; // one 60 Hz frame
+    public static final float STRESS_SETTLE_TIME = 4f; // seconds, slowest obstacle falls in ~3.5
+    public static final float STRESS_MEASURE_TIME = 2f; // seconds
+    public static final float STRESS_MIN_OBSTACLE_SPEED = 3f; // world units per second
+    public static final float STRESS_MAX_OBSTACLE_SPEED = 12f;
+    public static final float STRESS_MIN_OBSTACLE_RADIUS = 0.1f; // world units
+    public static final float STRESS_MAX_OBSTACLE_RADIUS = 0.5f;
+
+    // frame phase, loading and startup spans kept in memory, F4 writes them
+    // to TRACE_DIRECTORY as Chrome trace JSON, see Tracer. off: no clock
+    // reads, no span ring, turn on for profiling builds
+    public static final boolean TRACING = false;
+    public static final String TRACE_DIRECTORY = "traces/";
+
     private GameConfig() {
         // private constructor - don't instantiate
     }
@@ -0,0 +1,11 @@
+package com.staticvoid.obstacle.config;
+
+// where the gameplay entities live, see GameSimulation and the ObstacleField implementations
+public enum ObstacleFieldType {
+    // one scene2d ObstacleActor per obstacle on the Stage (ActorObstacleField)
+    ACTORS,
+    // flat arrays drawn straight through the batch (ObstacleStore)
+    STORE,
+    // obstacles as entities with packed components (EcsObstacleField)
+    ECS
+}
@@ -0,0 +1,80 @@
+package com.staticvoid.obstacle.ecs;
+
+import com.staticvoid.obstacle.util.SimulationMath;
+
+// player circle against obstacle colliders, same test, hit rules and order as
+// ObstacleStore: obstacles are tested oldest first, an obstacle hits once,
+// the first new overlap ends the sweep.
+// the player is no entity, its circle is handed in before every update()
+public class CollisionSystem implements EntitySystem {
+
+    private static final int REQUIRED = EntityWorld.COLLIDER | EntityWorld.OBSTACLE;
+
+    // == attributes
+    private float playerX;
+    private float playerY;
+    private float playerRadius;
+    private boolean ordered;
+    private boolean playerHit;
+
+    // == public methods
+    // x, y bottom left like entity positions, radius 0 collides with nothing
+    public void setPlayer(float x, float y, float radius) {
+        playerX = x;
+        playerY = y;
+        playerRadius = radius;
+    }
+
+    // true while obstacles are bottom to top in creation order,
+    // then the sweep stops at the first one above the player
+    public void setOrdered(boolean ordered) {
+        this.ordered = ordered;
+    }
+
+    // result of the last update()
+    public boolean isPlayerHit() {
+        return playerHit;
+    }
+
+    @Override
+    public void update(EntityWorld world) {
+        playerHit = false;
+        if (playerRadius <= 0f) {
+            return;
+        }
+
+        int[] mask = world.mask;
+        float[] x = world.x;
+        float[] y = world.y;
+        float[] radius = world.radius;
+        boolean[] hit = world.hit;
+        float playerTop = playerY + 2 * playerRadius;
+
+        for (int n = 0; n < world.size; n++) {
+            int e = world.entities[n];
+            if ((mask[e] & REQUIRED) != REQUIRED) {
+                continue;
+            }
+
+            // this one and every newer one is above the player
+            if (ordered && y[e] > playerTop) {
+                return;
+            }
+
+            // y-window, out of order the rest can't be skipped but most
+            // obstacles are above or below the player. grid values add up exactly
+            if (hit[e] || y[e] > playerTop || y[e] + 2 * radius[e] < playerY) {
+                continue;
+            }
+
+            boolean overlaps = SimulationMath.circlesOverlap(
+                    playerX, playerY, playerRadius, x[e], y[e], radius[e]);
+
+            if (overlaps) {
+                hit[e] = true;
+                playerHit = true;
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.staticvoid.obstacle.ecs;
+
+// one step of the gameplay over an EntityWorld, run once per simulation tick.
+// systems keep their own scratch state and allocate nothing while running
+public interface EntitySystem {
+
+    void update(EntityWorld world);
+}
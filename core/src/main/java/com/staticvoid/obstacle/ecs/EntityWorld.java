@@ -0,0 +1,313 @@
+package com.staticvoid.obstacle.ecs;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Logger;
+
+// Entities and their components for the gameplay, no scene2d involved.
+// An entity is an index into packed component arrays, one primitive array per
+// attribute like ObstacleStore: transform (position and the position at the
+// start of the tick), velocity (world units per tick), circle collider and
+// sprite. A bit mask per entity says which components and tags it has.
+//
+// Destroyed indices go on a free list and are handed out again by create(),
+// so the arrays stay as small as the peak entity count and nothing is
+// allocated once they have grown to it. Live entities are also kept in a
+// dense list that systems walk, in creation order whatever index they got:
+// the dense list is compacted instead of swapping the last entity into the
+// gap, so systems see the same order as a spawn-ordered list would.
+//
+// Systems (EntitySystem) in this package read and write the arrays directly.
+public class EntityWorld {
+
+    private static final Logger log =
+            new Logger(EntityWorld.class.getName(),
+                    Logger.DEBUG);
+
+    // components
+    public static final int TRANSFORM = 1;
+    public static final int VELOCITY = 1 << 1;
+    public static final int COLLIDER = 1 << 2;
+    public static final int SPRITE = 1 << 3;
+
+    // tags
+    public static final int OBSTACLE = 1 << 4;
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    // == attributes
+    int[] mask;
+
+    // transform, x and y are bottom left like Actor positions
+    float[] x;
+    float[] y;
+    float[] previousX;
+    float[] previousY;
+
+    // velocity
+    float[] velocityX;
+    float[] velocityY;
+
+    // circle collider, centered in a 2 * radius square at x, y
+    float[] radius;
+    boolean[] hit;
+
+    // sprite
+    TextureRegion[] region;
+    float[] width;
+    float[] height;
+
+    // dense list of live entities, oldest first
+    int[] entities;
+    int size;
+
+    private final IntArray freeEntities = new IntArray();
+    int nextEntity; // indices below it have been handed out, live or free
+    private boolean released; // dense list holds released entities until compact()
+
+    // diagnostics, a grow is an allocation and should stop once warmed up
+    private int created;
+    private int reuses;
+    private int peakSize;
+    private int grows;
+
+    // == constructors
+    public EntityWorld() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public EntityWorld(int capacity) {
+        allocate(MathUtils.nextPowerOfTwo(Math.max(capacity, 1)));
+    }
+
+    // == public methods
+    // a recycled index if there is one, components start zeroed
+    public int create(int mask) {
+        int entity;
+        if (released) {
+            compact();
+        }
+
+        if (freeEntities.size > 0) {
+            entity = freeEntities.pop();
+            reuses++;
+        } else {
+            if (nextEntity == this.mask.length) {
+                grow();
+            }
+            entity = nextEntity++;
+        }
+
+        this.mask[entity] = mask;
+        x[entity] = 0f;
+        y[entity] = 0f;
+        previousX[entity] = 0f;
+        previousY[entity] = 0f;
+        velocityX[entity] = 0f;
+        velocityY[entity] = 0f;
+        radius[entity] = 0f;
+        hit[entity] = false;
+        region[entity] = null;
+        width[entity] = 0f;
+        height[entity] = 0f;
+
+        entities[size++] = entity;
+        created++;
+        peakSize = Math.max(peakSize, size);
+        return entity;
+    }
+
+    // compacts the dense list right away, destroying many entities is
+    // cheaper through release() and one compact()
+    public void destroy(int entity) {
+        if (release(entity)) {
+            compact();
+        }
+    }
+
+    // destroys every entity having all bits of mask, in one pass
+    public void destroyAll(int mask) {
+        for (int n = 0; n < size; n++) {
+            int entity = entities[n];
+            if (has(entity, mask)) {
+                release(entity);
+            }
+        }
+        compact();
+    }
+
+    public boolean has(int entity, int mask) {
+        return (this.mask[entity] & mask) == mask;
+    }
+
+    // live entities, n from 0 to size() - 1 in iteration order
+    public int size() {
+        return size;
+    }
+
+    public int getEntity(int n) {
+        return entities[n];
+    }
+
+
+    // destroyed indices waiting for create()
+    public int getFreeCount() {
+        return freeEntities.size;
+    }
+
+    // creates that got a recycled index instead of a new one
+    public int getReuses() {
+        return reuses;
+    }
+
+    // most entities alive at once so far
+    public int getPeakSize() {
+        return peakSize;
+    }
+
+    // entities the arrays hold before they grow again
+    public int getCapacity() {
+        return mask.length;
+    }
+
+    public int getGrows() {
+        return grows;
+    }
+
+    // places the entity, previous position too so it doesn't slide there
+    public void setPosition(int entity, float x, float y) {
+        this.x[entity] = x;
+        this.y[entity] = y;
+        previousX[entity] = x;
+        previousY[entity] = y;
+    }
+
+    public void setVelocity(int entity, float velocityX, float velocityY) {
+        this.velocityX[entity] = velocityX;
+        this.velocityY[entity] = velocityY;
+    }
+
+    public void setCollider(int entity, float radius) {
+        this.radius[entity] = radius;
+        hit[entity] = false;
+    }
+
+    public void setSprite(int entity, TextureRegion region, float width, float height) {
+        this.region[entity] = region;
+        this.width[entity] = width;
+        this.height[entity] = height;
+    }
+
+    public void setRegion(int entity, TextureRegion region) {
+        this.region[entity] = region;
+    }
+
+    public float getX(int entity) {
+        return x[entity];
+    }
+
+    public float getY(int entity) {
+        return y[entity];
+    }
+
+    public float getVelocityY(int entity) {
+        return velocityY[entity];
+    }
+
+    public float getRadius(int entity) {
+        return radius[entity];
+    }
+
+    // same counters as EntityPools.logStats(), a grow is what a pool miss is
+    public void logStats() {
+        log.debug("ENTITY created= " + created
+                + " reused= " + reuses
+                + " alive= " + size
+                + " peakAlive= " + peakSize
+                + " free= " + freeEntities.size
+                + " capacity= " + mask.length
+                + " grows= " + grows);
+    }
+
+    // == package private methods
+    // frees the index, the entity stays in the dense list until compact()
+    // so systems can release while they walk it. false if already destroyed
+    boolean release(int entity) {
+        if (mask[entity] == 0) {
+            return false;
+        }
+
+        mask[entity] = 0;
+        region[entity] = null; // don't hold on to textures of dead entities
+        freeEntities.add(entity);
+        released = true;
+        return true;
+    }
+
+    // drops released entities from the dense list in one pass, keeps the order
+    void compact() {
+        int kept = 0;
+        for (int n = 0; n < size; n++) {
+            int entity = entities[n];
+            if (mask[entity] != 0) {
+                entities[kept++] = entity;
+            }
+        }
+
+        size = kept;
+        released = false;
+    }
+
+    // == private methods
+    private void allocate(int capacity) {
+        mask = new int[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        radius = new float[capacity];
+        hit = new boolean[capacity];
+        region = new TextureRegion[capacity];
+        width = new float[capacity];
+        height = new float[capacity];
+        entities = new int[capacity];
+    }
+
+    // twice the size, indices stay the same
+    private void grow() {
+        int[] oldMask = mask;
+        float[] oldX = x;
+        float[] oldY = y;
+        float[] oldPreviousX = previousX;
+        float[] oldPreviousY = previousY;
+        float[] oldVelocityX = velocityX;
+        float[] oldVelocityY = velocityY;
+        float[] oldRadius = radius;
+        boolean[] oldHit = hit;
+        TextureRegion[] oldRegion = region;
+        float[] oldWidth = width;
+        float[] oldHeight = height;
+        int[] oldEntities = entities;
+        int count = oldMask.length;
+
+        allocate(count * 2);
+        grows++;
+
+        System.arraycopy(oldMask, 0, mask, 0, count);
+        System.arraycopy(oldX, 0, x, 0, count);
+        System.arraycopy(oldY, 0, y, 0, count);
+        System.arraycopy(oldPreviousX, 0, previousX, 0, count);
+        System.arraycopy(oldPreviousY, 0, previousY, 0, count);
+        System.arraycopy(oldVelocityX, 0, velocityX, 0, count);
+        System.arraycopy(oldVelocityY, 0, velocityY, 0, count);
+        System.arraycopy(oldRadius, 0, radius, 0, count);
+        System.arraycopy(oldHit, 0, hit, 0, count);
+        System.arraycopy(oldRegion, 0, region, 0, count);
+        System.arraycopy(oldWidth, 0, width, 0, count);
+        System.arraycopy(oldHeight, 0, height, 0, count);
+        System.arraycopy(oldEntities, 0, entities, 0, count);
+    }
+}
@@ -0,0 +1,46 @@
+package com.staticvoid.obstacle.ecs;
+
+// destroys obstacles that fell below minY, in one sweep and one compaction
+public class ExpirySystem implements EntitySystem {
+
+    private static final int REQUIRED = EntityWorld.TRANSFORM | EntityWorld.OBSTACLE;
+
+    // == attributes
+    private float minY;
+    private boolean ordered;
+
+    // == public methods
+    public void setMinY(float minY) {
+        this.minY = minY;
+    }
+
+    // true while entities are bottom to top in creation order,
+    // then the sweep stops at the first one that stays
+    public void setOrdered(boolean ordered) {
+        this.ordered = ordered;
+    }
+
+    @Override
+    public void update(EntityWorld world) {
+        int[] mask = world.mask;
+        float[] y = world.y;
+        boolean released = false;
+
+        for (int n = 0; n < world.size; n++) {
+            int e = world.entities[n];
+            if ((mask[e] & REQUIRED) != REQUIRED) {
+                continue;
+            }
+
+            if (y[e] < minY) {
+                released |= world.release(e);
+            } else if (ordered) {
+                break;
+            }
+        }
+
+        if (released) {
+            world.compact();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.staticvoid.obstacle.ecs;
+
+// moves every entity with a transform and a velocity by one tick,
+// the position it leaves becomes the previous one for render interpolation
+public class MovementSystem implements EntitySystem {
+
+    private static final int REQUIRED = EntityWorld.TRANSFORM | EntityWorld.VELOCITY;
+
+    @Override
+    public void update(EntityWorld world) {
+        int[] mask = world.mask;
+        float[] x = world.x;
+        float[] y = world.y;
+        float[] previousX = world.previousX;
+        float[] previousY = world.previousY;
+        float[] velocityX = world.velocityX;
+        float[] velocityY = world.velocityY;
+
+        // order doesn't matter here, walk the raw slots instead of the dense
+        // list, sequential reads beat jumping between recycled indices.
+        // free slots have an empty mask
+        for (int e = 0; e < world.nextEntity; e++) {
+            if ((mask[e] & REQUIRED) != REQUIRED) {
+                continue;
+            }
+
+            previousX[e] = x[e];
+            previousY[e] = y[e];
+            x[e] += velocityX[e];
+            y[e] += velocityY[e];
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.staticvoid.obstacle.ecs;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+
+// draws every entity with a transform and a sprite, apart from the simulation:
+// it only reads the world, between two ticks, as often as frames come
+public class SpriteRenderSystem {
+
+    private static final int REQUIRED = EntityWorld.TRANSFORM | EntityWorld.SPRITE;
+
+    // batch must already be begun with the game camera.
+    // alpha interpolates between the previous and the current tick,
+    // sprites completely outside cullingArea are skipped
+    public void render(Batch batch, EntityWorld world, float alpha, Rectangle cullingArea) {
+        int[] mask = world.mask;
+        TextureRegion[] region = world.region;
+        float cullRight = cullingArea.x + cullingArea.width;
+        float cullTop = cullingArea.y + cullingArea.height;
+
+        for (int n = 0; n < world.size; n++) {
+            int e = world.entities[n];
+            if ((mask[e] & REQUIRED) != REQUIRED || region[e] == null) {
+                continue;
+            }
+
+            float x = MathUtils.lerp(world.previousX[e], world.x[e], alpha);
+            float y = MathUtils.lerp(world.previousY[e], world.y[e], alpha);
+            float width = world.width[e];
+            float height = world.height[e];
+
+            if (x > cullRight || y > cullTop || x + width < cullingArea.x || y + height < cullingArea.y) {
+                continue;
+            }
+            batch.draw(region[e], x, y, width, height);
+        }
+    }
+}
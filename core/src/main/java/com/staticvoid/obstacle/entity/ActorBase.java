@@ -5,8 +5,10 @@ import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.utils.Logger;
+import com.staticvoid.obstacle.util.SimulationMath;
 
 // holds position size scale rotation and color
 
@@ -19,10 +21,22 @@ public abstract class ActorBase extends Actor {
             new Logger(ActorBase.class.getName(),
                     Logger.DEBUG);
 
+    // how far rendering is between the previous and the current simulation tick,
+    // shared by all actors, set by the screen before drawing
+    private static float interpolationAlpha = 1f;
+
+    // debug bounds restore the renderer color through this, no copy per actor
+    private static final Color OLD_DEBUG_COLOR = new Color();
+    private static final int DEBUG_CIRCLE_SEGMENTS = 16;
+
     // == attributes
     private final Circle collisionShape = new Circle();
     private TextureRegion region;
 
+    // position at the start of the current tick, for render interpolation
+    private float previousX;
+    private float previousY;
+
     // == constructors
 
 
@@ -33,14 +47,26 @@ public abstract class ActorBase extends Actor {
     // change collision radius based on size of actor
 
     // == public methods
+    // snapped so the collision test gives the same answer on every backend
     public void setCollisionRadius(float radius) {
-        collisionShape.setRadius(radius);
+        collisionShape.setRadius(SimulationMath.snap(radius));
     }
 
     public void setRegion(TextureRegion region) {
         this.region = region;
     }
 
+    // call before moving the actor in a simulation tick
+    // and after teleporting it (spawn, restart) so it doesn't slide there
+    public void capturePreviousPosition() {
+        previousX = getX();
+        previousY = getY();
+    }
+
+    public static void setInterpolationAlpha(float alpha) {
+        interpolationAlpha = alpha;
+    }
+
     @Override
     public void draw(Batch batch, float parentAlpha) {
         // no need to call projection matrix or begin/end
@@ -50,8 +76,12 @@ public abstract class ActorBase extends Actor {
             return;
         }
 
+        // draw between last and current tick position
+        float drawX = MathUtils.lerp(previousX, getX(), interpolationAlpha);
+        float drawY = MathUtils.lerp(previousY, getY(), interpolationAlpha);
+
         batch.draw(region,
-                getX(), getY(),
+                drawX, drawY,
                 getOriginX(), getOriginY(),
                 getWidth(), getHeight(),
                 getScaleX(), getScaleY(),
@@ -71,11 +101,12 @@ public abstract class ActorBase extends Actor {
         }
 
         // draw circle with x in center
-        Color oldColor = shapeRenderer.getColor().cpy();
+        // only with Stage debug on, GameScreen draws collision circles through DebugOverlay
+        OLD_DEBUG_COLOR.set(shapeRenderer.getColor());
         shapeRenderer.setColor(Color.RED);
         shapeRenderer.x(collisionShape.x, collisionShape.y, 0.1f);
-        shapeRenderer.circle(collisionShape.x, collisionShape.y, collisionShape.radius, 30);
-        shapeRenderer.setColor(oldColor);
+        shapeRenderer.circle(collisionShape.x, collisionShape.y, collisionShape.radius, DEBUG_CIRCLE_SEGMENTS);
+        shapeRenderer.setColor(OLD_DEBUG_COLOR);
     }
 
     // whenever the position of Actor changes, positionChanged() is called
@@ -0,0 +1,53 @@
+package com.staticvoid.obstacle.entity;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Logger;
+import com.staticvoid.obstacle.config.GameConfig;
+import com.staticvoid.obstacle.util.pool.EntityPool;
+
+// every pooled entity type of the game, sized in GameConfig.
+// not thread safe, tools that simulate on several threads bring their own pools
+public final class EntityPools {
+
+    private static final Logger log =
+            new Logger(EntityPools.class.getName(),
+                    Logger.DEBUG);
+
+    public static final EntityPool<ObstacleActor> OBSTACLES = new EntityPool<ObstacleActor>(
+            "OBSTACLE", ObstacleActor::new,
+            GameConfig.OBSTACLE_POOL_PREWARM, GameConfig.OBSTACLE_POOL_MAX);
+
+    private static final Array<EntityPool<?>> ALL = new Array<EntityPool<?>>();
+
+    static {
+        ALL.add(OBSTACLES);
+    }
+
+    private EntityPools() {
+    }
+
+    // creates the pooled objects up front so the first game doesn't allocate them
+    public static void prewarm() {
+        for (EntityPool<?> pool : ALL) {
+            pool.prewarm();
+        }
+    }
+
+    public static Array<EntityPool<?>> getAll() {
+        return ALL;
+    }
+
+    public static void logStats() {
+        for (EntityPool<?> pool : ALL) {
+            log.debug(pool.getName()
+                    + " obtained= " + pool.getObtained()
+                    + " freed= " + pool.getFreed()
+                    + " misses= " + pool.getMisses()
+                    + " discarded= " + pool.getDiscarded()
+                    + " inUse= " + pool.getInUse()
+                    + " peakInUse= " + pool.getPeakInUse()
+                    + " free= " + pool.getFree()
+                    + " max= " + pool.max);
+        }
+    }
+}
@@ -1,41 +1,57 @@
 package com.staticvoid.obstacle.entity;
 
-import com.badlogic.gdx.math.Circle;
-import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.utils.Pool;
 import com.staticvoid.obstacle.config.GameConfig;
+import com.staticvoid.obstacle.util.SimulationMath;
 
 public class ObstacleActor extends ActorBase implements Pool.Poolable {
 
     // == attributes
-    private float ySpeed = GameConfig.MEDIUM_OBSTACLE_SPEED;
+    private float yStep = SimulationMath.perTick(GameConfig.MEDIUM_OBSTACLE_SPEED,
+            GameConfig.SIMULATION_TICK_RATE); // world units per tick
     private boolean hit;
 
+    // broad-phase bookkeeping, owned by ObstacleGrid
+    ObstacleGrid grid;
+    int gridCell = ObstacleGrid.NO_CELL;
+    int gridSlot;
+
     // == constructors ==
     public ObstacleActor() {
-        setCollisionRadius(GameConfig.OBSTACLE_BOUNDS_RADIUS);
-        setSize(GameConfig.OBSTACLE_SIZE, GameConfig.OBSTACLE_SIZE);
+        setRadius(GameConfig.OBSTACLE_BOUNDS_RADIUS);
     }
 
     // == public
+    // movement is driven by GameSimulation through update(), act() only runs actions
     @Override
     public void act(float deltaTime) {
         super.act(deltaTime);
-        update();
     }
 
+    // one simulation tick
     public void update() {
-        setY(getY() - ySpeed);
+        capturePreviousPosition();
+        setY(getY() - yStep);
     }
 
-    public void setYSpeed(float ySpeed) {
-        this.ySpeed = ySpeed;
+    public void setYStep(float yStep) {
+        this.yStep = yStep;
     }
 
-    public boolean isPlayerColliding(PlayerActor player) {
-        Circle playerBounds = player.getCollisionShape();
+    public float getYStep() {
+        return yStep;
+    }
+
+    // collision radius and drawn size together, the obstacle is a circle
+    public void setRadius(float radius) {
+        setCollisionRadius(radius);
+        setSize(2 * radius, 2 * radius);
+    }
 
-        boolean overlaps = Intersector.overlaps(playerBounds, getCollisionShape());
+    public boolean isPlayerColliding(PlayerActor player) {
+        boolean overlaps = SimulationMath.circlesOverlap(
+                player.getX(), player.getY(), player.getCollisionShape().radius,
+                getX(), getY(), getCollisionShape().radius);
 
         hit = overlaps;
 
@@ -51,5 +67,30 @@ public class ObstacleActor extends ActorBase implements Pool.Poolable {
         // default state: region null,
         setRegion(null);
         hit = false;
+
+        if (grid != null) {
+            grid.remove(this);
+        }
+
+        setRadius(GameConfig.OBSTACLE_BOUNDS_RADIUS); // stress mode varies it
+    }
+
+    // keep the broad-phase cell in sync with the collision circle
+    @Override
+    protected void positionChanged() {
+        super.positionChanged();
+
+        if (grid != null) {
+            grid.update(this);
+        }
+    }
+
+    @Override
+    protected void sizeChanged() {
+        super.sizeChanged();
+
+        if (grid != null) {
+            grid.update(this);
+        }
     }
 }
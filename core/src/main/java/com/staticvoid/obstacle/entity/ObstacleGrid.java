@@ -0,0 +1,155 @@
+package com.staticvoid.obstacle.entity;
+
+import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.staticvoid.obstacle.config.GameConfig;
+
+// Uniform grid broad-phase for player vs obstacle collision.
+// Obstacles are bucketed by the center of their collision circle, cells are
+// one obstacle wide so a query only touches the handful of cells around the
+// player instead of every obstacle alive. Obstacles move between cells from
+// ObstacleActor.positionChanged(), nothing is rebuilt per frame.
+public class ObstacleGrid {
+
+    private static final float CELL_SIZE = GameConfig.OBSTACLE_SIZE; // world units
+
+    // obstacles spawn at the top edge and expire below the bottom one
+    private static final float MIN_Y = -GameConfig.OBSTACLE_SIZE;
+    private static final float MAX_Y = GameConfig.WORLD_HEIGHT + GameConfig.OBSTACLE_SIZE;
+
+    static final int NO_CELL = -1;
+
+    // == attributes
+    private final int columns;
+    private final int rows;
+    private final Array<Array<ObstacleActor>> cells;
+
+    // largest obstacle radius seen, grows the query area
+    private float maxObstacleRadius = GameConfig.OBSTACLE_BOUNDS_RADIUS;
+    private int size;
+
+    // == constructors
+    public ObstacleGrid() {
+        columns = MathUtils.ceil(GameConfig.WORLD_WIDTH / CELL_SIZE);
+        rows = MathUtils.ceil((MAX_Y - MIN_Y) / CELL_SIZE);
+
+        cells = new Array<Array<ObstacleActor>>(columns * rows);
+        for (int i = 0; i < columns * rows; i++) {
+            cells.add(new Array<ObstacleActor>(false, 4));
+        }
+    }
+
+    // == public methods
+    public void add(ObstacleActor obstacle) {
+        if (obstacle.grid != null) {
+            obstacle.grid.remove(obstacle);
+        }
+
+        obstacle.grid = this;
+        maxObstacleRadius = Math.max(maxObstacleRadius, obstacle.getCollisionShape().radius);
+        insert(obstacle, cellOf(obstacle.getCollisionShape()));
+        size++;
+    }
+
+    public void remove(ObstacleActor obstacle) {
+        if (obstacle.grid != this) {
+            return;
+        }
+
+        detach(obstacle);
+        obstacle.grid = null;
+        size--;
+    }
+
+    public void clear() {
+        for (int i = 0; i < cells.size; i++) {
+            Array<ObstacleActor> cell = cells.get(i);
+
+            for (int j = 0; j < cell.size; j++) {
+                ObstacleActor obstacle = cell.get(j);
+                obstacle.grid = null;
+                obstacle.gridCell = NO_CELL;
+            }
+            cell.clear();
+        }
+
+        size = 0;
+    }
+
+    // narrow phase only runs for obstacles in cells the player circle can reach
+    public boolean isPlayerColliding(PlayerActor player) {
+        Circle playerBounds = player.getCollisionShape();
+        float reach = playerBounds.radius + maxObstacleRadius;
+
+        int minColumn = columnOf(playerBounds.x - reach);
+        int maxColumn = columnOf(playerBounds.x + reach);
+        int minRow = rowOf(playerBounds.y - reach);
+        int maxRow = rowOf(playerBounds.y + reach);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                Array<ObstacleActor> cell = cells.get(row * columns + column);
+
+                for (int i = 0; i < cell.size; i++) {
+                    ObstacleActor obstacle = cell.get(i);
+
+                    if (obstacle.isNotHit() && obstacle.isPlayerColliding(player)) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // == package methods
+    // called when an obstacle that belongs to this grid has moved
+    void update(ObstacleActor obstacle) {
+        int cell = cellOf(obstacle.getCollisionShape());
+
+        if (cell != obstacle.gridCell) {
+            detach(obstacle);
+            insert(obstacle, cell);
+        }
+    }
+
+    // == private methods
+    private void insert(ObstacleActor obstacle, int cellIndex) {
+        Array<ObstacleActor> cell = cells.get(cellIndex);
+        obstacle.gridCell = cellIndex;
+        obstacle.gridSlot = cell.size;
+        cell.add(obstacle);
+    }
+
+    // swap remove, the last obstacle in the cell takes over the freed slot
+    private void detach(ObstacleActor obstacle) {
+        Array<ObstacleActor> cell = cells.get(obstacle.gridCell);
+        int slot = obstacle.gridSlot;
+
+        ObstacleActor last = cell.pop();
+        if (last != obstacle) {
+            cell.set(slot, last);
+            last.gridSlot = slot;
+        }
+
+        obstacle.gridCell = NO_CELL;
+    }
+
+    private int cellOf(Circle bounds) {
+        return rowOf(bounds.y) * columns + columnOf(bounds.x);
+    }
+
+    private int columnOf(float x) {
+        return MathUtils.clamp((int) (x / CELL_SIZE), 0, columns - 1);
+    }
+
+    private int rowOf(float y) {
+        return MathUtils.clamp((int) ((y - MIN_Y) / CELL_SIZE), 0, rows - 1);
+    }
+}
@@ -1,12 +1,15 @@
 package com.staticvoid.obstacle.entity;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.math.MathUtils;
 import com.staticvoid.obstacle.config.GameConfig;
+import com.staticvoid.obstacle.util.SimulationMath;
 
 public class PlayerActor extends ActorBase {
 
+    // right edge of the world minus the player, on the simulation grid
+    private static final float MAX_X =
+            SimulationMath.snap(GameConfig.WORLD_WIDTH - GameConfig.PLAYER_SIZE);
+
     // == constructors ==
     public PlayerActor() {
         setCollisionRadius(GameConfig.PLAYER_BOUNDS_RADIUS);
@@ -15,25 +18,17 @@ public class PlayerActor extends ActorBase {
 
     // Stage calls the actor act and draw methods
     // here PlayerActor extends ActorBase which override draw
-    // and PlayerActor itself override act().  Stage calls these
+    // movement is driven by GameSimulation, not by act(), so the
+    // player can be stepped without a Stage or Gdx.input
     @Override
     public void act(float deltaTime) {
         super.act(deltaTime); // calls all the actions on any Actor instances
-        update();
     }
 
-    private void update() {
-        // discrete input handling would be optimal
-        float xSpeed = 0;
-
-        // polling, recall this is happening inside Game Screen render method
-        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
-            xSpeed = GameConfig.MAX_PLAYER_X_SPEED;
-        } else if (Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
-            xSpeed -= GameConfig.MAX_PLAYER_X_SPEED;
-        }
-
-        setX(getX() + xSpeed);
+    // input is resolved by the caller, xStep is world units this tick
+    public void move(float xStep) {
+        capturePreviousPosition();
+        setX(getX() + xStep);
 
         blockPlayerFromLeavingTheWorld();
     }
@@ -43,7 +38,7 @@ public class PlayerActor extends ActorBase {
         // feed clamp:  value to clamp, minimum, maximum.
         float playerX = MathUtils.clamp(getX(),
                 0,
-                GameConfig.WORLD_WIDTH - getWidth());
+                MAX_X);
 
         setPosition(playerX, getY());
     }
@@ -0,0 +1,16 @@
+package com.staticvoid.obstacle.event;
+
+// what GameSimulation reports, each with one int of payload
+public enum GameEvent {
+    // an obstacle hit the player, also in stress mode where it costs nothing
+    HIT,
+    // payload lives left
+    LIFE_LOST,
+    // payload final score
+    GAME_OVER,
+    // payload new score
+    SCORE_CHANGED;
+
+    // values() copies its array on every call
+    static final GameEvent[] VALUES = values();
+}
@@ -0,0 +1,21 @@
+package com.staticvoid.obstacle.event;
+
+// empty GameEventListener
+public class GameEventAdapter implements GameEventListener {
+
+    @Override
+    public void hit() {
+    }
+
+    @Override
+    public void lifeLost(int livesLeft) {
+    }
+
+    @Override
+    public void gameOver(int score) {
+    }
+
+    @Override
+    public void scoreChanged(int score) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.staticvoid.obstacle.event;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+
+// Gameplay events from GameSimulation to whoever reacts to them (audio,
+// persistence, HUD, telemetry). The simulation only writes an event into a
+// preallocated ring, which allocates nothing and calls no listener inside the
+// tick. The screen drains the ring once per frame and the listeners run then.
+//
+// Single producer, single consumer: publish() only writes the write counter,
+// drain() only the read counter, each publishes its slots through a volatile
+// write, so the two sides need no lock even on different threads. On the
+// render thread (and GWT, which ignores volatile) that costs nothing extra.
+// A full ring drops the new event and counts it, nothing the consumer has
+// not seen is overwritten. So whoever steps the simulation has to drain() or
+// clear() at least once per frame: a bus nobody empties fills up within a few
+// hundred hits and every later event is lost, GAME_OVER included. Headless
+// runs without listeners (replays, calibration, benchmarks) clear() per tick.
+public class GameEventBus {
+
+    private static final int DEFAULT_CAPACITY = 256; // a frame brings a handful
+
+    // == attributes
+    private final byte[] events;
+    private final int[] payloads;
+    private final int mask;
+
+    private volatile int written; // producer side, events ever published
+    private volatile int read; // consumer side, events ever drained
+
+    private final Array<GameEventListener> listeners = new Array<GameEventListener>();
+    private int dropped;
+
+    // == constructors
+    public GameEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GameEventBus(int capacity) {
+        int powerOfTwo = MathUtils.nextPowerOfTwo(Math.max(capacity, 1));
+        events = new byte[powerOfTwo];
+        payloads = new int[powerOfTwo];
+        mask = powerOfTwo - 1;
+    }
+
+    // == public methods
+    // producer
+    public void publish(GameEvent event, int payload) {
+        int index = written;
+        if (index - read == events.length) {
+            dropped++;
+            return;
+        }
+
+        events[index & mask] = (byte) event.ordinal();
+        payloads[index & mask] = payload;
+        written = index + 1;
+    }
+
+    // consumer, hands every queued event to every listener in publish order
+    public void drain() {
+        int end = written;
+        int index = read;
+
+        for (; index != end; index++) {
+            GameEvent event = GameEvent.VALUES[events[index & mask]];
+            int payload = payloads[index & mask];
+
+            for (int i = 0; i < listeners.size; i++) {
+                dispatch(listeners.get(i), event, payload);
+            }
+        }
+
+        read = index;
+    }
+
+    // consumer, throws the queued events away without calling any listener
+    public void clear() {
+        read = written;
+    }
+
+    // consumer side too, listeners are only called from drain()
+    public void subscribe(GameEventListener listener) {
+        listeners.add(listener);
+    }
+
+    public void unsubscribe(GameEventListener listener) {
+        listeners.removeValue(listener, true);
+    }
+
+    public int size() {
+        return written - read;
+    }
+
+    // events lost because nobody drained in time
+    public int getDropped() {
+        return dropped;
+    }
+
+    // == private methods
+    private static void dispatch(GameEventListener listener, GameEvent event, int payload) {
+        switch (event) {
+            case HIT:
+                listener.hit();
+                break;
+            case LIFE_LOST:
+                listener.lifeLost(payload);
+                break;
+            case GAME_OVER:
+                listener.gameOver(payload);
+                break;
+            case SCORE_CHANGED:
+                listener.scoreChanged(payload);
+                break;
+        }
+    }
+}
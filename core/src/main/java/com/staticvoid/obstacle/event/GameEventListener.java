@@ -0,0 +1,14 @@
+package com.staticvoid.obstacle.event;
+
+// called by GameEventBus.drain(), outside the simulation tick.
+// extend GameEventAdapter to only override what is needed
+public interface GameEventListener {
+
+    void hit();
+
+    void lifeLost(int livesLeft);
+
+    void gameOver(int score);
+
+    void scoreChanged(int score);
+}
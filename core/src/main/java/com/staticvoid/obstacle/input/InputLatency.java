@@ -0,0 +1,64 @@
+package com.staticvoid.obstacle.input;
+
+import java.util.Arrays;
+
+// Input to photon latency: from the input event to the first frame showing it.
+// A change counts as shown when the frame after the one that simulated it
+// starts, that is after the buffer swap (and vsync wait) of that frame.
+// Display scan out is not included, so the real figure is a bit higher.
+public class InputLatency {
+
+    private static final int SAMPLES = 64;
+    private static final float NANOS_PER_MILLI = 1000000f;
+
+    // == attributes
+    private final float[] millis = new float[SAMPLES];
+    private final float[] sortedMillis = new float[SAMPLES];
+    private int index;
+    private int count;
+
+    private long pendingEventNanos = -1;
+    private long lastRecordedEventNanos = -1;
+
+    // == public methods
+    // the simulation now runs with the input change from eventNanos,
+    // call after every tick, the same change is only counted once
+    public void inputApplied(long eventNanos) {
+        if (eventNanos < 0 || eventNanos == lastRecordedEventNanos) {
+            return;
+        }
+
+        // several changes in one frame, the oldest waited longest
+        if (pendingEventNanos < 0) {
+            pendingEventNanos = eventNanos;
+        }
+        lastRecordedEventNanos = eventNanos;
+    }
+
+    // call at the start of a frame, the previous one is on screen now
+    public void framePresented(long nowNanos) {
+        if (pendingEventNanos < 0) {
+            return;
+        }
+
+        millis[index] = (nowNanos - pendingEventNanos) / NANOS_PER_MILLI;
+        index = (index + 1) % SAMPLES;
+        count = Math.min(count + 1, SAMPLES);
+        pendingEventNanos = -1;
+    }
+
+    public int getSampleCount() {
+        return count;
+    }
+
+    // over the last SAMPLES changes, 0 without samples
+    public float percentile(float fraction) {
+        if (count == 0) {
+            return 0f;
+        }
+
+        System.arraycopy(millis, 0, sortedMillis, 0, count);
+        Arrays.sort(sortedMillis, 0, count);
+        return sortedMillis[Math.min(count - 1, (int) (fraction * count))];
+    }
+}
@@ -0,0 +1,94 @@
+package com.staticvoid.obstacle.input;
+
+import com.badlogic.gdx.math.MathUtils;
+
+// Timestamped player input changes between the input processor and the
+// simulation. Every entry is the quantized input (see GameSimulation.quantizeInput)
+// from its event time on. The screen drains it once per tick up to the tick's
+// end time, so an input lands on the tick it happened in instead of on
+// whatever tick the frame happens to start with.
+//
+// Preallocated ring buffer, nothing is allocated while playing. When it is
+// full the oldest entry is dropped, it would have been applied first anyway.
+public class InputQueue {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    // == attributes
+    private final long[] times;
+    private final int[] inputs;
+    private final int mask;
+
+    private int head;
+    private int size;
+    private int overflows;
+
+    private int input;
+    private long lastChangeNanos = -1; // event time of the last applied change
+
+    // == constructors
+    public InputQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public InputQueue(int capacity) {
+        int powerOfTwo = MathUtils.nextPowerOfTwo(Math.max(capacity, 1));
+        times = new long[powerOfTwo];
+        inputs = new int[powerOfTwo];
+        mask = powerOfTwo - 1;
+    }
+
+    // == public methods
+    // timeNanos in TimeUtils.nanoTime() time, never older than the last push
+    public void push(long timeNanos, int input) {
+        if (size == times.length) {
+            head = (head + 1) & mask;
+            size--;
+            overflows++;
+        }
+
+        int index = (head + size) & mask;
+        times[index] = timeNanos;
+        inputs[index] = input;
+        size++;
+    }
+
+    // applies every entry up to timeNanos, returns the input for the tick ending then
+    public int applyUntil(long timeNanos) {
+        while (size > 0 && times[head] <= timeNanos) {
+            if (inputs[head] != input) {
+                input = inputs[head];
+                lastChangeNanos = times[head];
+            }
+
+            head = (head + 1) & mask;
+            size--;
+        }
+        return input;
+    }
+
+    // drops what is queued and starts from input
+    public void reset(int input) {
+        head = 0;
+        size = 0;
+        this.input = input;
+        lastChangeNanos = -1;
+    }
+
+    public int getInput() {
+        return input;
+    }
+
+    // event time of the newest change applyUntil() handed out, -1 if none yet
+    public long getLastChangeNanos() {
+        return lastChangeNanos;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getOverflows() {
+        return overflows;
+    }
+}
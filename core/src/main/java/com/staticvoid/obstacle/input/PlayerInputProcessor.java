@@ -0,0 +1,161 @@
+package com.staticvoid.obstacle.input;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.staticvoid.obstacle.config.GameConfig;
+import com.staticvoid.obstacle.simulation.GameSimulation;
+
+// Turns key, touch and tilt events into timestamped player input on an InputQueue.
+// Arrow keys win over touch, touch wins over tilt. Holding a finger on the left
+// or right half of the screen steers, only the screen x is needed so nothing
+// is unprojected. The accelerometer has no events, pollTilt() samples it once
+// per frame.
+// Only changes are queued, a held key is one entry however long it is held.
+public class PlayerInputProcessor extends InputAdapter {
+
+    private static final int MAX_POINTERS = 4;
+    private static final long MAX_EVENT_AGE_NANOS = 1000000000L; // older means another clock
+
+    private static final int LEFT_KEY = Input.Keys.LEFT;
+    private static final int RIGHT_KEY = Input.Keys.RIGHT;
+
+    // == attributes
+    private final InputQueue queue;
+
+    private boolean leftPressed;
+    private boolean rightPressed;
+    private final int[] touchDirections = new int[MAX_POINTERS]; // -1, 0, 1 per pointer
+    private int tiltInput;
+
+    private int queuedInput;
+
+    // == constructors
+    public PlayerInputProcessor(InputQueue queue) {
+        this.queue = queue;
+    }
+
+    // == public methods
+    // picks up keys already held when the screen shows
+    public void reset() {
+        leftPressed = Gdx.input.isKeyPressed(LEFT_KEY);
+        rightPressed = Gdx.input.isKeyPressed(RIGHT_KEY);
+        for (int i = 0; i < MAX_POINTERS; i++) {
+            touchDirections[i] = 0;
+        }
+        tiltInput = 0;
+
+        queuedInput = currentInput();
+        queue.reset(queuedInput);
+    }
+
+    @Override
+    public boolean keyDown(int keycode) {
+        return key(keycode, true);
+    }
+
+    @Override
+    public boolean keyUp(int keycode) {
+        return key(keycode, false);
+    }
+
+    @Override
+    public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        return touch(screenX, pointer);
+    }
+
+    @Override
+    public boolean touchDragged(int screenX, int screenY, int pointer) {
+        return touch(screenX, pointer);
+    }
+
+    @Override
+    public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+        if (pointer >= MAX_POINTERS) {
+            return false;
+        }
+
+        touchDirections[pointer] = 0;
+        changed(eventTime());
+        return true;
+    }
+
+    // call once per frame before the simulation runs
+    public void pollTilt(long nowNanos) {
+        if (!GameConfig.TILT_INPUT
+                || !Gdx.input.isPeripheralAvailable(Input.Peripheral.Accelerometer)) {
+            return;
+        }
+
+        // portrait, tilting right makes x negative
+        float tilt = -Gdx.input.getAccelerometerX();
+        if (Math.abs(tilt) < GameConfig.TILT_DEAD_ZONE) {
+            tilt = 0f;
+        }
+
+        int input = GameSimulation.quantizeInput(tilt / GameConfig.TILT_FULL_SPEED);
+        if (input != tiltInput) {
+            tiltInput = input;
+            changed(nowNanos);
+        }
+    }
+
+    // == private methods
+    private boolean key(int keycode, boolean pressed) {
+        if (keycode == LEFT_KEY) {
+            leftPressed = pressed;
+        } else if (keycode == RIGHT_KEY) {
+            rightPressed = pressed;
+        } else {
+            return false;
+        }
+
+        changed(eventTime());
+        return true;
+    }
+
+    private boolean touch(int screenX, int pointer) {
+        if (pointer >= MAX_POINTERS) {
+            return false;
+        }
+
+        touchDirections[pointer] = screenX < Gdx.graphics.getWidth() / 2 ? -1 : 1;
+        changed(eventTime());
+        return true;
+    }
+
+    private void changed(long timeNanos) {
+        int input = currentInput();
+        if (input != queuedInput) {
+            queuedInput = input;
+            queue.push(timeNanos, input);
+        }
+    }
+
+    private int currentInput() {
+        if (leftPressed != rightPressed) {
+            return rightPressed ? GameSimulation.MAX_INPUT : -GameSimulation.MAX_INPUT;
+        }
+
+        // with several fingers down the highest pointer decides
+        for (int i = MAX_POINTERS - 1; i >= 0; i--) {
+            if (touchDirections[i] != 0) {
+                return touchDirections[i] * GameSimulation.MAX_INPUT;
+            }
+        }
+
+        return tiltInput;
+    }
+
+    // backends stamp events when they arrive, fall back to now if it doesn't look like our clock
+    private long eventTime() {
+        long now = TimeUtils.nanoTime();
+        long time = Gdx.input.getCurrentEventTime();
+
+        if (time <= 0 || time > now || now - time > MAX_EVENT_AGE_NANOS) {
+            return now;
+        }
+        return time;
+    }
+}
@@ -0,0 +1,148 @@
+package com.staticvoid.obstacle.replay;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ByteArray;
+import com.staticvoid.obstacle.config.DifficultyLevel;
+
+// A recorded run: everything needed to play it again tick for tick.
+//
+// Layout, little endian, varints see VarInts:
+//   'O' 'A' 'R' version
+//   seed (8 bytes), difficulty ordinal (varint), tick rate (varint)
+//   tick count (varint), final score (varint)
+//   input runs until the end: input delta to the previous run (zigzag varint),
+//   run length in ticks (varint)
+// Input is GameSimulation's quantized -MAX_INPUT..MAX_INPUT.
+// Inputs only change when a key goes down or up, so a run costs a few
+// bytes per second of play.
+public class Replay {
+
+    public static final String FILE_EXTENSION = "replay";
+
+    private static final byte[] MAGIC = {'O', 'A', 'R'};
+    // bumped whenever the simulation changes in a way that changes outcomes
+    private static final byte VERSION = 2;
+
+    // == attributes
+    private final long seed;
+    private final DifficultyLevel difficultyLevel;
+    private final int tickRate;
+    private final int tickCount;
+    private final int finalScore;
+    private final byte[] inputRuns;
+
+    // == constructors
+    Replay(long seed, DifficultyLevel difficultyLevel, int tickRate,
+           int tickCount, int finalScore, byte[] inputRuns) {
+        this.seed = seed;
+        this.difficultyLevel = difficultyLevel;
+        this.tickRate = tickRate;
+        this.tickCount = tickCount;
+        this.finalScore = finalScore;
+        this.inputRuns = inputRuns;
+    }
+
+    // == static methods
+    public static Replay read(FileHandle file) {
+        return fromBytes(file.readBytes());
+    }
+
+    public static Replay fromBytes(byte[] bytes) {
+        if (bytes.length < MAGIC.length + 1
+                || bytes[0] != MAGIC[0] || bytes[1] != MAGIC[1] || bytes[2] != MAGIC[2]) {
+            throw new IllegalArgumentException("Not a replay");
+        }
+
+        if (bytes[3] != VERSION) {
+            throw new IllegalArgumentException("Unsupported replay version " + bytes[3]);
+        }
+
+        int[] position = {MAGIC.length + 1};
+        long seed = VarInts.readLong(bytes, position);
+        int difficultyOrdinal = VarInts.read(bytes, position);
+        int tickRate = VarInts.read(bytes, position);
+        int tickCount = VarInts.read(bytes, position);
+        int finalScore = VarInts.read(bytes, position);
+
+        DifficultyLevel[] levels = DifficultyLevel.values();
+        if (difficultyOrdinal < 0 || difficultyOrdinal >= levels.length) {
+            throw new IllegalArgumentException("Unknown difficulty " + difficultyOrdinal);
+        }
+
+        byte[] inputRuns = new byte[bytes.length - position[0]];
+        System.arraycopy(bytes, position[0], inputRuns, 0, inputRuns.length);
+
+        return new Replay(seed, levels[difficultyOrdinal], tickRate, tickCount, finalScore, inputRuns);
+    }
+
+    // == public methods
+    public byte[] toBytes() {
+        ByteArray out = new ByteArray(32 + inputRuns.length);
+        out.addAll(MAGIC);
+        out.add(VERSION);
+        VarInts.writeLong(out, seed);
+        VarInts.write(out, difficultyLevel.ordinal());
+        VarInts.write(out, tickRate);
+        VarInts.write(out, tickCount);
+        VarInts.write(out, finalScore);
+        out.addAll(inputRuns);
+        return out.toArray();
+    }
+
+    public void write(FileHandle file) {
+        file.writeBytes(toBytes(), false);
+    }
+
+    public InputCursor inputs() {
+        return new InputCursor(inputRuns);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public DifficultyLevel getDifficultyLevel() {
+        return difficultyLevel;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    public int getFinalScore() {
+        return finalScore;
+    }
+
+    // walks the recorded input one tick at a time
+    public static class InputCursor {
+
+        private final byte[] runs;
+        private final int[] position = {0};
+
+        private int input;
+        private int ticksLeftInRun;
+
+        InputCursor(byte[] runs) {
+            this.runs = runs;
+        }
+
+        public boolean hasNext() {
+            return ticksLeftInRun > 0 || position[0] < runs.length;
+        }
+
+        // quantized input for the next tick
+        public int next() {
+            if (ticksLeftInRun == 0) {
+                input += VarInts.readSigned(runs, position);
+                ticksLeftInRun = VarInts.read(runs, position);
+            }
+
+            ticksLeftInRun--;
+            return input;
+        }
+    }
+}
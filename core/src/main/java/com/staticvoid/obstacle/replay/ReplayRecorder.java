@@ -0,0 +1,68 @@
+package com.staticvoid.obstacle.replay;
+
+import com.badlogic.gdx.utils.ByteArray;
+import com.staticvoid.obstacle.config.DifficultyLevel;
+
+// records the quantized player input of every simulation tick as runs
+public class ReplayRecorder {
+
+    private static final int INITIAL_CAPACITY = 1024; // bytes, minutes of typical play
+
+    // == attributes
+    private final ByteArray inputRuns = new ByteArray(INITIAL_CAPACITY);
+
+    private long seed;
+    private DifficultyLevel difficultyLevel;
+    private int tickRate;
+    private int tickCount;
+
+    private int runInput;
+    private int runLength;
+    private int previousRunInput;
+
+    // == public methods
+    public void start(long seed, DifficultyLevel difficultyLevel, int tickRate) {
+        this.seed = seed;
+        this.difficultyLevel = difficultyLevel;
+        this.tickRate = tickRate;
+
+        inputRuns.clear();
+        tickCount = 0;
+        runInput = 0;
+        runLength = 0;
+        previousRunInput = 0;
+    }
+
+    // call once per tick, before the tick runs, with the input it runs with
+    public void recordTick(int quantizedInput) {
+        if (runLength > 0 && quantizedInput != runInput) {
+            writeRun();
+        }
+
+        runInput = quantizedInput;
+        runLength++;
+        tickCount++;
+    }
+
+    public Replay finish(int finalScore) {
+        writeRun();
+        return new Replay(seed, difficultyLevel, tickRate, tickCount, finalScore, inputRuns.toArray());
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    // == private methods
+    private void writeRun() {
+        if (runLength == 0) {
+            return;
+        }
+
+        VarInts.writeSigned(inputRuns, runInput - previousRunInput);
+        VarInts.write(inputRuns, runLength);
+
+        previousRunInput = runInput;
+        runLength = 0;
+    }
+}
@@ -0,0 +1,57 @@
+package com.staticvoid.obstacle.replay;
+
+import com.staticvoid.obstacle.simulation.GameSimulation;
+import com.staticvoid.obstacle.simulation.ObstacleStore;
+
+// Plays a replay back through GameSimulation as fast as the CPU allows,
+// nothing is rendered. Used to reproduce reported runs and to verify
+// recorded runs in bulk. Both obstacle fields play the same game, the
+// flat ObstacleStore is just the faster one to run without rendering.
+public final class ReplayRunner {
+
+    private ReplayRunner() {
+    }
+
+    public static Result run(Replay replay) {
+        GameSimulation simulation = new GameSimulation(replay.getDifficultyLevel(),
+                replay.getSeed(), replay.getTickRate(), new ObstacleStore());
+
+        Replay.InputCursor inputs = replay.inputs();
+        int ticks = 0;
+
+        while (inputs.hasNext() && !simulation.isGameOver()) {
+            simulation.setPlayerInput(inputs.next());
+            simulation.update();
+            simulation.getEvents().clear(); // nobody listens, keep the ring empty
+            ticks++;
+        }
+
+        return new Result(replay, ticks, simulation.getScore());
+    }
+
+    public static class Result {
+
+        private final int ticks;
+        private final int score;
+        private final boolean matches;
+
+        private Result(Replay replay, int ticks, int score) {
+            this.ticks = ticks;
+            this.score = score;
+            this.matches = ticks == replay.getTickCount() && score == replay.getFinalScore();
+        }
+
+        public int getTicks() {
+            return ticks;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        // played back to the same tick count and score as recorded
+        public boolean matches() {
+            return matches;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.staticvoid.obstacle.replay;
+
+import com.badlogic.gdx.utils.ByteArray;
+
+// LEB128 style variable length ints, 7 bits per byte, small values take one byte.
+// signed values are zigzag encoded first so small negatives stay small
+final class VarInts {
+
+    private VarInts() {
+    }
+
+    static void write(ByteArray out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.add((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.add((byte) value);
+    }
+
+    static void writeSigned(ByteArray out, int value) {
+        write(out, (value << 1) ^ (value >> 31));
+    }
+
+    static void writeLong(ByteArray out, long value) {
+        for (int i = 0; i < 8; i++) {
+            out.add((byte) (value >>> (8 * i)));
+        }
+    }
+
+    // reads from bytes starting at position[0] and advances it
+    static int read(byte[] bytes, int[] position) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+
+        do {
+            if (position[0] >= bytes.length) {
+                throw new IllegalArgumentException("Truncated varint");
+            }
+            b = bytes[position[0]++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        return value;
+    }
+
+    static int readSigned(byte[] bytes, int[] position) {
+        int value = read(bytes, position);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static long readLong(byte[] bytes, int[] position) {
+        if (position[0] + 8 > bytes.length) {
+            throw new IllegalArgumentException("Truncated long");
+        }
+
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value |= (bytes[position[0]++] & 0xFFL) << (8 * i);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,28 @@
+package com.staticvoid.obstacle.screen;
+
+import com.badlogic.gdx.Screen;
+
+// decides when ScreenRegistry disposes a cached screen that isn't showing
+public interface ScreenEvictionPolicy {
+
+    // transitionsSinceShown counts screen changes since the screen was last shown
+    boolean shouldEvict(Screen screen, int transitionsSinceShown);
+
+    // menus are cheap to keep and expensive to rebuild, the default
+    ScreenEvictionPolicy KEEP_ALL = new ScreenEvictionPolicy() {
+        @Override
+        public boolean shouldEvict(Screen screen, int transitionsSinceShown) {
+            return false;
+        }
+    };
+
+    // for memory tight devices, drops screens not visited in a while
+    static ScreenEvictionPolicy evictAfter(final int transitions) {
+        return new ScreenEvictionPolicy() {
+            @Override
+            public boolean shouldEvict(Screen screen, int transitionsSinceShown) {
+                return transitionsSinceShown >= transitions;
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.staticvoid.obstacle.screen;
+
+import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Logger;
+import com.badlogic.gdx.utils.ObjectMap;
+
+// Keeps screens, and the UI they built, alive between visits so going back
+// and forth between menus doesn't rebuild anything. Screens are created on
+// first use by their registered factory and disposed when the eviction
+// policy says so or when the game is disposed.
+// Screens holding per visit state (GameScreen, LoadingScreen) aren't
+// registered, they are created for each visit and dispose themselves on hide.
+public class ScreenRegistry {
+
+    private static final Logger log =
+            new Logger(ScreenRegistry.class.getName(), Logger.DEBUG);
+
+    public interface Factory<T extends Screen> {
+        T create();
+    }
+
+    // == attributes
+    private final Game game;
+    private final ScreenEvictionPolicy evictionPolicy;
+
+    private final ObjectMap<Class<? extends Screen>, Factory<? extends Screen>> factories =
+            new ObjectMap<Class<? extends Screen>, Factory<? extends Screen>>();
+
+    // parallel arrays, a handful of screens: a linear search beats hashing and
+    // nothing gets boxed on a transition
+    private final Array<Class<? extends Screen>> cachedTypes = new Array<Class<? extends Screen>>();
+    private final Array<Screen> cachedScreens = new Array<Screen>();
+    private final IntArray lastShown = new IntArray(); // transition count when last shown
+    private int transitions;
+
+    // == constructors
+    public ScreenRegistry(Game game, ScreenEvictionPolicy evictionPolicy) {
+        this.game = game;
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    // == public methods
+    public <T extends Screen> void register(Class<T> type, Factory<T> factory) {
+        factories.put(type, factory);
+    }
+
+    // cached instance, created on first use
+    @SuppressWarnings("unchecked")
+    public <T extends Screen> T get(Class<T> type) {
+        int index = cachedTypes.indexOf(type, true);
+        if (index >= 0) {
+            return (T) cachedScreens.get(index);
+        }
+
+        Factory<? extends Screen> factory = factories.get(type);
+        if (factory == null) {
+            throw new IllegalArgumentException("Screen not registered: " + type.getName());
+        }
+
+        Screen screen = factory.create();
+        cachedTypes.add(type);
+        cachedScreens.add(screen);
+        lastShown.add(transitions);
+        log.debug("Created " + type.getName());
+
+        return (T) screen;
+    }
+
+    public void show(Class<? extends Screen> type) {
+        game.setScreen(get(type));
+    }
+
+    // call after every screen change, current may be a screen that isn't cached
+    public void screenChanged(Screen current) {
+        transitions++;
+
+        for (int i = cachedScreens.size - 1; i >= 0; i--) {
+            Screen screen = cachedScreens.get(i);
+
+            if (screen == current) {
+                lastShown.set(i, transitions);
+            } else if (evictionPolicy.shouldEvict(screen, transitions - lastShown.get(i))) {
+                log.debug("Evicting " + cachedTypes.get(i).getName());
+                cachedTypes.removeIndex(i);
+                cachedScreens.removeIndex(i);
+                lastShown.removeIndex(i);
+                screen.dispose();
+            }
+        }
+    }
+
+    public void dispose() {
+        for (int i = 0; i < cachedScreens.size; i++) {
+            cachedScreens.get(i).dispose();
+        }
+
+        cachedTypes.clear();
+        cachedScreens.clear();
+        lastShown.clear();
+    }
+}
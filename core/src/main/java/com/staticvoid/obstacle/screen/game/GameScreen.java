@@ -1,41 +1,69 @@
 package com.staticvoid.obstacle.screen.game;
 
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
-import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Logger;
-import com.badlogic.gdx.utils.Pool;
-import com.badlogic.gdx.utils.Pools;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.staticvoid.obstacle.ObstacleAvoidGame;
 import com.staticvoid.obstacle.assets.AssetDescriptors;
 import com.staticvoid.obstacle.assets.RegionNames;
+import com.staticvoid.obstacle.audio.AudioService;
+import com.staticvoid.obstacle.audio.SoundEffect;
 import com.staticvoid.obstacle.common.GameManager;
-import com.staticvoid.obstacle.config.DifficultyLevel;
 import com.staticvoid.obstacle.config.GameConfig;
+import com.staticvoid.obstacle.config.ObstacleFieldType;
+import com.staticvoid.obstacle.ecs.SpriteRenderSystem;
+import com.staticvoid.obstacle.entity.ActorBase;
+import com.staticvoid.obstacle.entity.EntityPools;
 import com.staticvoid.obstacle.entity.ObstacleActor;
 import com.staticvoid.obstacle.entity.PlayerActor;
+import com.staticvoid.obstacle.event.GameEventAdapter;
+import com.staticvoid.obstacle.event.GameEventBus;
+import com.staticvoid.obstacle.input.InputLatency;
+import com.staticvoid.obstacle.input.InputQueue;
+import com.staticvoid.obstacle.input.PlayerInputProcessor;
+import com.staticvoid.obstacle.replay.Replay;
+import com.staticvoid.obstacle.replay.ReplayRecorder;
 import com.staticvoid.obstacle.screen.menu.MenuScreen;
+import com.staticvoid.obstacle.simulation.ActorObstacleField;
+import com.staticvoid.obstacle.simulation.EcsObstacleField;
+import com.staticvoid.obstacle.simulation.FixedTimestep;
+import com.staticvoid.obstacle.simulation.GameSimulation;
+import com.staticvoid.obstacle.simulation.ObstacleField;
+import com.staticvoid.obstacle.simulation.ObstacleStore;
 import com.staticvoid.obstacle.util.GdxUtils;
+import com.staticvoid.obstacle.util.SimulationMath;
 import com.staticvoid.obstacle.util.ViewportUtils;
 import com.staticvoid.obstacle.util.debug.DebugCameraController;
-
-import java.util.Iterator;
-
-// Since with Stage we can't separate rendering logic from  UI rendering
-// Screen will be like mix between controller/renderer
+import com.staticvoid.obstacle.util.debug.DebugOverlay;
+import com.staticvoid.obstacle.util.debug.PerformanceOverlay;
+import com.staticvoid.obstacle.util.debug.StressRamp;
+import com.staticvoid.obstacle.util.debug.Tracer;
+
+// Plays one game. Game logic lives in GameSimulation, stepped by a
+// FixedTimestep with the queued player input; the screen only reads it.
+// Each frame: run this frame's ticks, drain the simulation's events (audio,
+// HUD, persistence), then draw between the last two ticks.
+// The Stage draws the static background and the player, obstacles are drawn
+// by whatever fits the ObstacleField: SpriteRenderSystem for the
+// EcsObstacleField, the Stage for actor obstacles, ObstacleStoreRenderer for
+// the ObstacleStore. HUD, debug and performance overlays are drawn last.
 public class GameScreen extends ScreenAdapter {
 
     private static final Logger log =
@@ -43,45 +71,71 @@ public class GameScreen extends ScreenAdapter {
                     Logger.DEBUG);
     // == constants
     private static final float PADDING = 20.0f;
+    private static final int DEBUG_OVERLAY_KEY = Input.Keys.F2;
+    private static final int PERFORMANCE_OVERLAY_KEY = Input.Keys.F3;
+    // ESC on desktop, BACK on Android (caught while a game is up)
+    private static final int EXIT_KEY = Input.Keys.ESCAPE;
+    private static final int BACK_KEY = Input.Keys.BACK;
+    // actors draw up to a tick above their culled position, see updateCullingArea()
+    private static final float CULLING_MARGIN = 0.5f; // world units
+    // culling is inclusive, one grid step less keeps obstacles that just
+    // spawned on the top edge (nothing of them visible) out
+    private static final float CULLING_TOP_INSET = SimulationMath.toWorldUnits(1);
 
     // == attributes
     private final ObstacleAvoidGame game;
+    private final boolean stressTest;
     private final AssetManager assetManager;
     private final SpriteBatch batch;
-    private final GlyphLayout layout = new GlyphLayout();
+    private final FixedTimestep timestep =
+            new FixedTimestep(GameConfig.SIMULATION_TICK_RATE, GameConfig.MAX_TICKS_PER_FRAME);
+    private final ReplayRecorder replayRecorder = new ReplayRecorder();
+    private boolean recordingReplay;
+    private final InputQueue inputQueue = new InputQueue();
+    private final PlayerInputProcessor inputProcessor = new PlayerInputProcessor(inputQueue);
+    private final InputLatency inputLatency = new InputLatency();
 
     private OrthographicCamera camera;
     private Viewport viewport;
     private Stage stage;
-    private ShapeRenderer renderer;
+    private StaticLayer backgroundLayer; // opaque, never acts
+    private Group gameLayer; // player and obstacle actors, culled to the camera
+    private final Rectangle cullingArea = new Rectangle();
+    private DebugOverlay debugOverlay;
 
     private OrthographicCamera uiCamera;
     private Viewport uiViewport;
-    private BitmapFont font;
-
-    private float obstacleTimer;
-    private float scoreTimer;
-    private int lives = GameConfig.LIVES_START;
-    private int score;
-    private int displayScore;
-    private Sound hitSound;
+    private HudCounter livesCounter;
+    private HudCounter scoreCounter;
+    private PerformanceOverlay performanceOverlay;
 
-    private float startPlayerX = (GameConfig.WORLD_WIDTH - GameConfig.PLAYER_SIZE) / 2f;
-    private float startPlayerY = GameConfig.PLAYER_SIZE / 2f;
+    private AudioService audio;
 
     private DebugCameraController debugCameraController;
     private TextureRegion obstacleRegion;
     private TextureRegion backgroundRegion;
 
-    private PlayerActor player;
+    private GameSimulation simulation;
+    private int playerInput; // quantized, see GameSimulation
+    private ObstacleStoreRenderer obstacleStoreRenderer;
+    private EcsObstacleField entityField;
+    private final SpriteRenderSystem spriteRenderSystem = new SpriteRenderSystem();
     private Image background;
-    private final Array<ObstacleActor> obstacles = new Array<ObstacleActor>();
-    private final Pool<ObstacleActor> obstaclePool = Pools.get(ObstacleActor.class);
+
+    private StressRamp stressRamp; // stress test only
+    private boolean exitRequested;
 
 
     // == constructor
     public GameScreen(ObstacleAvoidGame game) {
+        this(game, false);
+    }
+
+    // stressTest: endless run that ramps the spawn rate up to the frame budget
+    // and reports the sustainable obstacle count, see StressRamp
+    public GameScreen(ObstacleAvoidGame game, boolean stressTest) {
         this.game = game;
+        this.stressTest = stressTest;
         assetManager = game.getAssetManager();
         batch = game.getBatch();
     }
@@ -90,24 +144,37 @@ public class GameScreen extends ScreenAdapter {
 
     @Override
     public void show() {
+        // normally streamed in long before play is pressed
+        game.getAssetLoader().finishGameAssets();
+
         camera = new OrthographicCamera();
         viewport = new FitViewport(GameConfig.WORLD_WIDTH, GameConfig.WORLD_HEIGHT,
                 camera);
         stage = new Stage(viewport, batch);
-        stage.setDebugAll(true); // show debug lines for all Actors on this Stage instance
 
-        renderer = new ShapeRenderer();
+        // grid and collision circles, actors don't draw their own debug bounds
+        // circles for thousands of obstacles would skew the stress test
+        debugOverlay = new DebugOverlay(GameConfig.DEBUG_OVERLAY_VISIBLE && !stressTest);
 
         uiCamera = new OrthographicCamera();
         uiViewport = new FitViewport(GameConfig.HUD_WIDTH,
                 GameConfig.HUD_HEIGHT, uiCamera);
-        font = assetManager.get(AssetDescriptors.FONT);
+        BitmapFont font = assetManager.get(AssetDescriptors.FONT);
+        float hudTextY = GameConfig.HUD_HEIGHT - font.getCapHeight();
+        float hudTextWidth = GameConfig.HUD_WIDTH - 2 * PADDING;
+        livesCounter = new HudCounter(font, "LIVES: ", PADDING, hudTextY, hudTextWidth, Align.left);
+        scoreCounter = new HudCounter(font, "SCORE: ", PADDING, hudTextY, hudTextWidth, Align.right);
+        performanceOverlay = new PerformanceOverlay(font, PADDING,
+                hudTextY - font.getLineHeight(), hudTextWidth);
 
         debugCameraController = new DebugCameraController();
         debugCameraController.setStartPosition(GameConfig.WORLD_CENTER_X,
                 GameConfig.WORLD_CENTER_Y);
 
-        hitSound = assetManager.get(AssetDescriptors.HIT_SOUND);
+        audio = game.getAudio();
+        audio.prepare();
+        performanceOverlay.setAudio(audio);
+        performanceOverlay.setInputLatency(inputLatency);
 
         TextureAtlas gamePlayAtlas =
                 assetManager.get(AssetDescriptors.GAME_PLAY);
@@ -120,121 +187,291 @@ public class GameScreen extends ScreenAdapter {
         background.setSize(GameConfig.WORLD_WIDTH, GameConfig.WORLD_HEIGHT);
         // background.setZIndex();
 
-        player = new PlayerActor();
-        player.setPosition(startPlayerX, startPlayerY);
+        // every run gets its own seed so it can be replayed later
+        long seed = TimeUtils.millis() ^ TimeUtils.nanoTime();
+        simulation = new GameSimulation(GameManager.INSTANCE.getDifficultyLevel(), seed);
+
+        // a stress run never ends, so no replay or high score comes out of it
+        recordingReplay = game.isRecordReplays() && !stressTest;
+        if (recordingReplay) {
+            replayRecorder.start(seed, simulation.getDifficultyLevel(), simulation.getTickRate());
+        }
+
+        if (stressTest) {
+            stressRamp = new StressRamp(GameConfig.STRESS_START_SPAWN_RATE,
+                    GameConfig.STRESS_RAMP_FACTOR, GameConfig.STRESS_FRAME_BUDGET_MS,
+                    GameConfig.STRESS_SETTLE_TIME, GameConfig.STRESS_MEASURE_TIME);
+            simulation.startStressMode(stressRamp.getObstaclesPerSecond(),
+                    GameConfig.STRESS_MIN_OBSTACLE_SPEED, GameConfig.STRESS_MAX_OBSTACLE_SPEED,
+                    GameConfig.STRESS_MIN_OBSTACLE_RADIUS, GameConfig.STRESS_MAX_OBSTACLE_RADIUS);
+            performanceOverlay.setStressRamp(stressRamp);
+            performanceOverlay.toggle();
+        }
+
+        subscribeToEvents(simulation.getEvents());
+
+        backgroundLayer = new StaticLayer(true);
+        backgroundLayer.addActor(background);
+
+        // no transform, a transformed group flushes the batch around its children
+        gameLayer = new Group();
+        gameLayer.setTransform(false);
+        gameLayer.setCullingArea(cullingArea);
+
+        stage.addActor(backgroundLayer);
+        stage.addActor(gameLayer);
+
+        PlayerActor player = simulation.getPlayer();
+        ObstacleField obstacleField = simulation.getObstacleField();
+        if (obstacleField instanceof EcsObstacleField) {
+            // obstacles are entities, SpriteRenderSystem draws them after the Stage
+            entityField = (EcsObstacleField) obstacleField;
+            entityField.setObstacleRegion(obstacleRegion);
+            performanceOverlay.setEntityWorld(entityField.getWorld());
+        } else if (obstacleField instanceof ActorObstacleField) {
+            ((ActorObstacleField) obstacleField).setListener(new ActorObstacleField.Listener() {
+                @Override
+                public void obstacleSpawned(ObstacleActor obstacle) {
+                    obstacle.setRegion(obstacleRegion);
+                    gameLayer.addActor(obstacle);
+                }
+
+                @Override
+                public void obstacleRemoved(ObstacleActor obstacle) {
+                    // removes Actor from Parent, which in this case is Stage
+                    obstacle.remove();
+                }
+            });
+        } else {
+            obstacleStoreRenderer = new ObstacleStoreRenderer(obstacleRegion);
+        }
+
         player.setRegion(playerRegion);
+        gameLayer.addActor(player);
+
+        // player input arrives as events, the stage takes no input during play
+        inputProcessor.reset();
+        Gdx.input.setInputProcessor(inputProcessor);
 
-        stage.addActor(background);
-        stage.addActor(player);
+        // BACK leaves the game for the menu instead of closing the app,
+        // the stress test has no other way out on a device
+        Gdx.input.setCatchKey(BACK_KEY, true);
 
     }
 
     @Override
     public void render(float deltaTime) {
+        // whatever the last frame simulated is on screen now
+        long frameStart = TimeUtils.nanoTime();
+        inputLatency.framePresented(frameStart);
+        Tracer.begin("GameScreen.render");
+
         // handle debug input and apply configuration to camera
         debugCameraController.handleDebugInput(deltaTime);
         debugCameraController.applyTo(camera);
 
-        update(deltaTime);
+        if (Gdx.input.isKeyJustPressed(DEBUG_OVERLAY_KEY)) {
+            debugOverlay.toggle();
+        }
+
+        // F3 on desktop, two finger tap on devices
+        if (Gdx.input.isKeyJustPressed(PERFORMANCE_OVERLAY_KEY)
+                || (Gdx.input.justTouched() && Gdx.input.isTouched(1))) {
+            performanceOverlay.toggle();
+        }
+
+        if (Gdx.input.isKeyJustPressed(EXIT_KEY) || Gdx.input.isKeyJustPressed(BACK_KEY)) {
+            exitRequested = true;
+        }
+
+        long updateStart = TimeUtils.nanoTime();
+        update(deltaTime, frameStart);
+        // listeners run here, after this frame's ticks and before drawing
+        simulation.getEvents().drain();
+        long renderStart = TimeUtils.nanoTime();
+        Tracer.complete("update", updateStart, renderStart);
 
         // clear screen
         GdxUtils.clearScreen();
 
+        Tracer.begin("renderGamePlay");
         viewport.apply(); // apply our game viewport
         renderGamePlay();
+        Tracer.end();
 
+        Tracer.begin("renderUi");
         uiViewport.apply(); // apply user interface viewport
         renderUi();
+        Tracer.end();
 
-        viewport.apply(); // apply our game viewport
-        renderDebug();
-
-        if (isGameOver()) {
-            game.setScreen(new MenuScreen(game));
+        if (debugOverlay.isEnabled()) {
+            Tracer.begin("renderDebug");
+            viewport.apply(); // apply our game viewport
+            renderDebug();
+            Tracer.end();
         }
-    }
 
-    private void update(float deltaTime) {
-        if (isGameOver()) {
-            return;
-        }
-        // create new obstacle every interval and remove passed obstacles
-        createNewObstacle(deltaTime);
-        removePassedObstacles();
+        performanceOverlay.setUpdateNanos(renderStart - updateStart);
+        performanceOverlay.setRenderNanos(TimeUtils.nanoTime() - renderStart);
+        updatePerformanceOverlay(deltaTime);
+        Tracer.end();
 
-        updateScore(deltaTime);
-        updateDisplayScore(deltaTime);
+        if (stressRamp != null) {
+            stressRamp.frame(deltaTime, TimeUtils.nanoTime() - frameStart,
+                    simulation.getObstacleField().size());
+            simulation.setObstaclesPerSecond(stressRamp.getObstaclesPerSecond());
+        }
 
-        if (!isGameOver() && isPlayerCollidingWithObstacle()) {
-            log.debug("Lives: " + lives);
-            lives--;
+        // once, from DesktopLauncher.main (or create()) to here
+        Tracer.startupFinished("startup to first game frame");
 
-            if (isGameOver()) {
-                GameManager.INSTANCE.updateHighScore(score);
-            } else {
-                restartII();
-            }
+        if (isGameOver() || exitRequested) {
+            game.getScreenRegistry().show(MenuScreen.class);
         }
-
     }
 
+    private void update(float deltaTime, long frameStart) {
+        if (isGameOver()) {
+            return;
+        }
 
-    private void removePassedObstacles() {
-        if (obstacles.size > 0) {
-            ObstacleActor first = obstacles.first();
+        inputProcessor.pollTilt(frameStart);
 
-            float minObstacleY = -GameConfig.OBSTACLE_SIZE;  // 0 end of bottom world bounds
+        // simulation always steps by the same amount, frame time only
+        // decides how many ticks happen this frame
+        int ticks = timestep.advance(deltaTime);
 
-            if (first.getY() < minObstacleY) {
-                // remove from array
-                obstacles.removeValue(first, true);
+        // the last tick ends where the leftover fraction (alpha) begins,
+        // the ones before it end a tick apart
+        long tickNanos = timestep.getTickDurationNanos();
+        long lastTickEnd = frameStart - (long) (timestep.getAlpha() * tickNanos);
 
-                // removes Actor from Parent, which in this case is Stage
-                first.remove();
+        for (int i = 0; i < ticks && !isGameOver(); i++) {
+            // input events that happened up to the end of this tick
+            long tickEnd = lastTickEnd - (ticks - 1 - i) * tickNanos;
+            playerInput = inputQueue.applyUntil(tickEnd);
+            inputLatency.inputApplied(inputQueue.getLastChangeNanos());
 
-                // return to pool
-                obstaclePool.free(first); // put back in pool, pool resets
+            // simulate with exactly what the replay stores
+            simulation.setPlayerInput(playerInput);
+            if (recordingReplay) {
+                replayRecorder.recordTick(playerInput);
             }
+            simulation.update();
         }
     }
 
+    // one listener per concern, none of them runs inside a tick
+    private void subscribeToEvents(GameEventBus events) {
+        // audio
+        events.subscribe(new GameEventAdapter() {
+            @Override
+            public void hit() {
+                audio.play(SoundEffect.HIT);
+            }
+        });
+
+        // HUD, the score counter follows the display score which counts up every frame
+        livesCounter.setValue(simulation.getLives());
+        events.subscribe(new GameEventAdapter() {
+            @Override
+            public void lifeLost(int livesLeft) {
+                livesCounter.setValue(livesLeft);
+            }
+        });
 
-    private void createNewObstacle(float deltaTime) {
-        obstacleTimer += deltaTime;
-
-        if (obstacleTimer >= GameConfig.OBSTACLE_SPAWN_TIME) {
-            float min = 0;
-            float max = GameConfig.WORLD_WIDTH - GameConfig.OBSTACLE_SIZE;
-
-            float obstacleX = MathUtils.random(min, max);
-            float obstacleY = GameConfig.WORLD_HEIGHT;
-
-            ObstacleActor obstacle = obstaclePool.obtain();
-            DifficultyLevel difficultyLevel =
-                    GameManager.INSTANCE.getDifficultyLevel();
-            obstacle.setYSpeed(difficultyLevel.getObstacleSpeed());
-            obstacle.setPosition(obstacleX, obstacleY);
-            obstacle.setRegion(obstacleRegion);
+        // persistence
+        events.subscribe(new GameEventAdapter() {
+            @Override
+            public void gameOver(int score) {
+                GameManager.INSTANCE.updateHighScore(score);
+                if (recordingReplay) {
+                    saveReplay(replayRecorder.finish(score));
+                }
+            }
+        });
+
+        // telemetry
+        events.subscribe(new GameEventAdapter() {
+            @Override
+            public void lifeLost(int livesLeft) {
+                log.debug("Lives: " + livesLeft);
+                Tracer.instant("life lost");
+            }
 
-            obstacles.add(obstacle);
-            stage.addActor(obstacle);
+            @Override
+            public void gameOver(int score) {
+                log.debug("Game over, score " + score);
+                Tracer.instant("game over");
+            }
+        });
+    }
 
-            obstacleTimer = 0f;
+    // written on the next frame, the file write stays out of this one
+    private void saveReplay(final Replay replay) {
+        if (!game.isRecordReplays()
+                || Gdx.app.getType() == Application.ApplicationType.WebGL) {
+            return;
         }
+
+        Gdx.app.postRunnable(new Runnable() {
+            @Override
+            public void run() {
+                FileHandle file = Gdx.files.local(GameConfig.LAST_REPLAY_FILE);
+                replay.write(file);
+                log.debug("Replay saved to " + file.path() + ", "
+                        + replay.getTickCount() + " ticks, score " + replay.getFinalScore());
+            }
+        });
     }
 
+    private void updatePerformanceOverlay(float deltaTime) {
+        performanceOverlay.setObstacleCount(simulation.getObstacleField().size());
+        performanceOverlay.endFrame(deltaTime, batch);
+    }
 
     @Override
     public void resize(int width, int height) {
         viewport.update(width, height, true); // true to center camera
         uiViewport.update(width, height, true);
+        debugOverlay.resize(viewport);
 
         ViewportUtils.debugPixelPerUnit(viewport);
     }
 
+    @Override
+    public void hide() {
+        // hand live obstacles back, the pool outlives this screen
+        simulation.getObstacleField().clear();
+        if (entityField != null) {
+            entityField.getWorld().logStats();
+        } else if (GameConfig.OBSTACLE_FIELD == ObstacleFieldType.ACTORS) {
+            EntityPools.logStats();
+        }
+        audio.logStats();
+        if (stressRamp != null) {
+            stressRamp.logReport();
+        }
+        log.debug("Input to photon ms p50= " + inputLatency.percentile(0.5f)
+                + " p95= " + inputLatency.percentile(0.95f)
+                + " samples= " + inputLatency.getSampleCount()
+                + " queue overflows= " + inputQueue.getOverflows());
+        log.debug("Game events dropped= " + simulation.getEvents().getDropped());
+
+        if (Gdx.input.getInputProcessor() == inputProcessor) {
+            Gdx.input.setInputProcessor(null);
+        }
+        Gdx.input.setCatchKey(BACK_KEY, false); // menus close the app on BACK
+
+        // one GameScreen per game, not cached
+        dispose();
+    }
+
     @Override
     public void dispose() {
-        renderer.dispose();
+        stage.dispose();
+        debugOverlay.dispose();
+        performanceOverlay.dispose();
     }
 
     // == private methods
@@ -248,8 +485,40 @@ public class GameScreen extends ScreenAdapter {
 //
 //        batch.end();
 
-        stage.act(); // calls act on all actors same for draw
+        // actors draw between their last two tick positions
+        float alpha = timestep.getAlpha();
+        ActorBase.setInterpolationAlpha(alpha);
+
+        updateCullingArea();
+
+        stage.act(); // runs actions on the game layer, movement happens in GameSimulation
         stage.draw(); // encapsulates begin/end, no need to explicitly put inside begin/end
+
+        if (entityField != null) {
+            batch.begin();
+            spriteRenderSystem.render(batch, entityField.getWorld(), alpha, cullingArea);
+            batch.end();
+        }
+
+        if (obstacleStoreRenderer != null) {
+            batch.begin();
+            obstacleStoreRenderer.render(batch, (ObstacleStore) simulation.getObstacleField(),
+                    alpha, cullingArea);
+            batch.end();
+        }
+    }
+
+    // what the camera sees, follows the debug camera's zoom and position.
+    // falling actors are culled by their current position but drawn up to a
+    // step above it, the margin keeps them from popping out at the bottom
+    private void updateCullingArea() {
+        float viewWidth = camera.viewportWidth * camera.zoom;
+        float viewHeight = camera.viewportHeight * camera.zoom;
+
+        cullingArea.set(camera.position.x - viewWidth / 2f,
+                camera.position.y - viewHeight / 2f - CULLING_MARGIN,
+                viewWidth,
+                viewHeight + CULLING_MARGIN - CULLING_TOP_INSET);
     }
 
 //    private void drawGamePlay() {
@@ -260,118 +529,25 @@ public class GameScreen extends ScreenAdapter {
         batch.setProjectionMatrix(uiCamera.combined);
         batch.begin();
 
-        // draw lives
-        String livesText = "LIVES: " + lives;
-        layout.setText(font, livesText);
-        font.draw(batch, layout, PADDING, GameConfig.HUD_HEIGHT - layout.height);
+        // counters only re-layout when the value actually changed,
+        // lives are set by the LIFE_LOST listener
+        livesCounter.draw(batch);
+
+        // score is right aligned to HUD_WIDTH - PADDING
+        scoreCounter.setValue(simulation.getDisplayScore());
+        scoreCounter.draw(batch);
 
-        // draw score
-        String scoreText = "SCORE: " + displayScore;
-        layout.setText(font, scoreText);
-        font.draw(batch, layout,
-                GameConfig.HUD_WIDTH - layout.width - PADDING,
-                GameConfig.HUD_HEIGHT - layout.height);
+        performanceOverlay.draw(batch);
 
         batch.end();
     }
 
     private void renderDebug() {
-//        renderer.setProjectionMatrix(camera.combined);
-//        renderer.begin(ShapeRenderer.ShapeType.Line);
-//
-//       // drawDebug(); we are4 drawing all debug lines using Stage
-//        // drawDebugBounds overriden in ActorBase
-//
-//        renderer.end();
-
-        // draw grid
-        ViewportUtils.drawGrid(viewport, renderer);
+        // cached grid, then every collision circle in one batch
+        debugOverlay.render(camera, simulation.getPlayer(), simulation.getObstacleField());
     }
 
     public boolean isGameOver() {
-        return lives <= 0;
-    }
-
-    // Superior Solution - use Iterator!
-    private void restartII() { // Utilize Iterator
-        Iterator<ObstacleActor> iterator = obstacles.iterator();
-
-        while(iterator.hasNext()) {
-            ObstacleActor obstacle = iterator.next();
-            obstacle.remove(); // remove from Parent, Stage
-            obstaclePool.free(obstacle); // return to pool
-            iterator.remove(); // remove from array
-        }
-
-        player.setPosition(startPlayerX, startPlayerY);
-    }
-
-    private void restart() {
-        log.debug("obstacles-size: " + obstacles.size);
-        // why do we need Array in addition to Pool?
-        // calling stage.clear() will remove all - even Background
-        for (int i = 0; i < obstacles.size; i++) {
-            ObstacleActor obstacle = obstacles.get(i);
-
-            // remove obstacle from stage (parent)
-            //  obstacle.remove();
-            // solves issue of obstacles continuing to fall
-            // despite collision
-            //  stage.getActors().removeValue(obstacle, true);
-            //     stage.getActors().removeAll(obstacles, true);
-
-            // stage.clear();
-            boolean removed = obstacle.remove(); // returns boolean true on success
-            log.debug("removed is: " + removed);
-            // return to Pool
-            obstaclePool.free(obstacle);
-
-            // remove obstacle at index from Array
-            // obstacles.removeIndex(i);
-        }
-
-        obstacles.clear();
-        // remove all actors
-        //stage.clear(); // todo: delete line
-
-        // add them back from background, plauyer, to obstacle order - reset
-//        stage.addActor(background);
-//        stage.addActor(player);
-        player.setPosition(startPlayerX, startPlayerY);
-    }
-
-    private boolean isPlayerCollidingWithObstacle() {
-        for (ObstacleActor obstacle : obstacles) {
-            if (obstacle.isNotHit() && obstacle.isPlayerColliding(player)) {
-                hitSound.play();
-                return true;
-            }
-        }
-        // NOTE:  video 79 -- I like above better, interchangeable
-//        if (obstacle.isNotHit() && obstacle.isPlayerColliding(player)) {
-//            return true;
-//        }
-        return false;
-    }
-
-    private void updateScore(float deltaTime) {
-        // score is added to a random intervals
-        // the longer player lives, the more points racked up
-        scoreTimer += deltaTime;
-
-        if (scoreTimer >= GameConfig.SCORE_MAX_TIME) {
-            score += MathUtils.random(1, 5); // min 1, max 4, inclusive/exclusive
-            scoreTimer = 0.0f;
-        }
-    }
-
-    private void updateDisplayScore(float deltaTime) {
-        // 1/60 * 60 --> score increments by one each frame
-        if (displayScore < score) {
-            displayScore = Math.min(
-                    score,
-                    displayScore + (int) (60 * deltaTime)
-            );
-        }
+        return simulation.isGameOver();
     }
 }
@@ -0,0 +1,56 @@
+package com.staticvoid.obstacle.screen.game;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.utils.StringBuilder;
+
+// HUD text of the form "LIVES: 3".
+// The number is formatted into a reusable char buffer and the glyphs are kept
+// in a BitmapFontCache, text is only laid out again when the value changes.
+// Drawing an unchanged counter allocates nothing and does no layout.
+public class HudCounter {
+
+    // == attributes
+    private final BitmapFontCache cache;
+    private final StringBuilder text = new StringBuilder(16);
+    private final String prefix;
+
+    // text box, y is the top of the capital letters like BitmapFont.draw
+    private final float x;
+    private final float y;
+    private final float width;
+    private final int align;
+
+    private int value;
+    private boolean laidOut;
+
+    // == constructors
+    // align is one of Align.left / center / right inside [x, x + width]
+    public HudCounter(BitmapFont font, String prefix, float x, float y, float width, int align) {
+        this.cache = font.newFontCache();
+        this.prefix = prefix;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.align = align;
+    }
+
+    // == public methods
+    public void setValue(int value) {
+        if (laidOut && this.value == value) {
+            return;
+        }
+
+        this.value = value;
+        laidOut = true;
+
+        text.setLength(0);
+        text.append(prefix).append(value);
+        cache.setText(text, x, y, 0, text.length(), width, align, false);
+    }
+
+    public void draw(Batch batch) {
+        cache.draw(batch);
+    }
+}
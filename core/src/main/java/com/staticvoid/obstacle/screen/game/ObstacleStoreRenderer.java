@@ -0,0 +1,37 @@
+package com.staticvoid.obstacle.screen.game;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.staticvoid.obstacle.simulation.ObstacleStore;
+
+// draws an ObstacleStore straight through the shared batch, no Actors involved
+public class ObstacleStoreRenderer {
+
+    private final TextureRegion obstacleRegion;
+
+    public ObstacleStoreRenderer(TextureRegion obstacleRegion) {
+        this.obstacleRegion = obstacleRegion;
+    }
+
+    // batch must already be begun with the game camera
+    // alpha interpolates between the previous and the current tick,
+    // obstacles completely outside cullingArea are skipped like culled actors
+    public void render(Batch batch, ObstacleStore store, float alpha, Rectangle cullingArea) {
+        float cullRight = cullingArea.x + cullingArea.width;
+        float cullTop = cullingArea.y + cullingArea.height;
+
+        for (int i = 0; i < store.size(); i++) {
+            float size = 2f * store.getRadius(i);
+            float y = MathUtils.lerp(store.getPreviousY(i), store.getY(i), alpha);
+
+            float x = store.getX(i);
+
+            if (x > cullRight || y > cullTop || x + size < cullingArea.x || y + size < cullingArea.y) {
+                continue;
+            }
+            batch.draw(obstacleRegion, x, y, size, size);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.staticvoid.obstacle.screen.game;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Touchable;
+
+// Stage layer for actors that never move, animate or take input (the background).
+// act() skips the whole layer, so stage.act() doesn't walk its actors every frame.
+// An opaque layer draws with blending off: every pixel is simply written
+// instead of read, blended and written, which is most of the fill cost of a
+// full screen image on a low end GPU. Only put fully opaque actors in it.
+public class StaticLayer extends Group {
+
+    // == attributes
+    private final boolean opaque;
+
+    // == constructors
+    public StaticLayer(boolean opaque) {
+        this.opaque = opaque;
+        setTransform(false); // a transform flushes the batch twice per draw
+        setTouchable(Touchable.disabled);
+    }
+
+    // == public methods
+    @Override
+    public void act(float delta) {
+        // static, nothing to run
+    }
+
+    @Override
+    public void draw(Batch batch, float parentAlpha) {
+        if (!opaque) {
+            super.draw(batch, parentAlpha);
+            return;
+        }
+
+        // switching blending flushes, the layer costs a draw call of its own
+        boolean blending = batch.isBlendingEnabled();
+        batch.disableBlending();
+        super.draw(batch, parentAlpha);
+        if (blending) {
+            batch.enableBlending();
+        }
+    }
+}
@@ -2,17 +2,17 @@ package com.staticvoid.obstacle.screen.loading;
 
 import com.badlogic.gdx.Application;
 import com.badlogic.gdx.ScreenAdapter;
-import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.Logger;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.staticvoid.obstacle.ObstacleAvoidGame;
-import com.staticvoid.obstacle.assets.AssetDescriptors;
+import com.staticvoid.obstacle.assets.StagedAssetLoader;
 import com.staticvoid.obstacle.config.GameConfig;
 import com.staticvoid.obstacle.screen.menu.MenuScreen;
 import com.staticvoid.obstacle.util.GdxUtils;
+import com.staticvoid.obstacle.util.debug.Tracer;
 
 public class LoadingScreen extends ScreenAdapter {
 
@@ -31,18 +31,15 @@ public class LoadingScreen extends ScreenAdapter {
     private ShapeRenderer renderer;
 
     private float progress;
-
-    // interval to pass after all assets are loaded
-    private float waitTime = 0.75f;
     private boolean changeScreen;
 
     private final ObstacleAvoidGame game;
-    private final AssetManager assetManager;
+    private final StagedAssetLoader assetLoader;
 
     // == constructors ==
     public LoadingScreen(ObstacleAvoidGame game) {
         this.game = game;
-        assetManager = game.getAssetManager();
+        assetLoader = game.getAssetLoader();
     }
 
     // == public methods ==
@@ -55,12 +52,8 @@ public class LoadingScreen extends ScreenAdapter {
         viewport = new FitViewport(GameConfig.HUD_WIDTH, GameConfig.HUD_HEIGHT, camera);
         renderer = new ShapeRenderer();
 
-        // load assets
-        assetManager.load(AssetDescriptors.FONT);
-        assetManager.load(AssetDescriptors.GAME_PLAY); // atlas
-        assetManager.load(AssetDescriptors.UI);
-        assetManager.load(AssetDescriptors.UI_SKIN);
-        assetManager.load(AssetDescriptors.HIT_SOUND);
+        // load assets, menu assets first, ObstacleAvoidGame.render() drives the loading
+        assetLoader.queue();
     }
 
     @Override
@@ -81,7 +74,7 @@ public class LoadingScreen extends ScreenAdapter {
         renderer.end();
 
         if (changeScreen) {
-            game.setScreen(new MenuScreen(game));
+            game.getScreenRegistry().show(MenuScreen.class);
         }
     }
 
@@ -100,21 +93,21 @@ public class LoadingScreen extends ScreenAdapter {
     }
 
     private void update(float deltaTime) {
-        // progress is tween 0 and 1
-        progress = assetManager.getProgress(); // 0 to 1
+        Tracer.begin("LoadingScreen.update");
+
+        // progress is tween 0 and 1, of the assets the menu needs
+        progress = assetLoader.getMenuProgress(); // 0 to 1
 
-        // true if loading is complete
-        if (assetManager.update()) {
-            waitTime -= deltaTime;
+        // gameplay assets keep streaming in behind the menu
+        if (assetLoader.isMenuReady()) {
             // here we avoid the pitfall of attempting to change screens
             // in the midst of a batch.draw call
 
             // * do not dispose the renderer in the midst of an upate *
-            if (waitTime <= 0) {
-                changeScreen = true;
-            }
+            changeScreen = true;
         }
 
+        Tracer.end();
     }
 
     @Override
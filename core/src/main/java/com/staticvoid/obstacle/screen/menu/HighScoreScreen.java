@@ -24,6 +24,9 @@ public class HighScoreScreen extends MenuScreenBase {
             new Logger(HighScoreScreen.class.getName(), Logger.DEBUG);
 
 
+    private Label highScoreLabel;
+    private int shownHighScore;
+
     public HighScoreScreen(ObstacleAvoidGame game) {
         super(game);
     }
@@ -49,8 +52,8 @@ public class HighScoreScreen extends MenuScreenBase {
         // high score text
         Label highScoreText = new Label("HIGHSCORE", uiskin);
         // high score label
-        String highScoreString = GameManager.INSTANCE.getHighScoreString();
-        Label highScoreLabel = new Label(highScoreString, uiskin);
+        shownHighScore = GameManager.INSTANCE.getHighScore();
+        highScoreLabel = new Label(GameManager.INSTANCE.getHighScoreString(), uiskin);
 
         // back button
         TextButton backButton = new TextButton("BACK", uiskin);
@@ -81,10 +84,21 @@ public class HighScoreScreen extends MenuScreenBase {
         return table;
     }
 
+    // screen is cached, the high score may have changed since the last visit
+    @Override
+    protected void refresh() {
+        int highScore = GameManager.INSTANCE.getHighScore();
+
+        if (highScore != shownHighScore) {
+            shownHighScore = highScore;
+            highScoreLabel.setText(GameManager.INSTANCE.getHighScoreString());
+        }
+    }
+
     private void back() {
         // highscore screen back to menu screen
         log.debug("back()");
-        game.setScreen(new MenuScreen(game));
+        game.getScreenRegistry().show(MenuScreen.class);
     }
 
 //    @Override
@@ -13,6 +13,7 @@ import com.badlogic.gdx.utils.Logger;
 import com.staticvoid.obstacle.ObstacleAvoidGame;
 import com.staticvoid.obstacle.assets.AssetDescriptors;
 import com.staticvoid.obstacle.assets.RegionNames;
+import com.staticvoid.obstacle.config.GameConfig;
 import com.staticvoid.obstacle.screen.game.GameScreen;
 
 public class MenuScreen extends MenuScreenBase {
@@ -42,6 +43,15 @@ public class MenuScreen extends MenuScreenBase {
             }
         });
 
+        // stress test button
+        TextButton stressButton = new TextButton("STRESS TEST", uiskin);
+        stressButton.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, Actor actor) {
+                stressTest();
+            }
+        });
+
         // high score button
         TextButton highScoreButton = new TextButton("HIGHSCORE", uiskin);
         highScoreButton.addListener(new ChangeListener() {
@@ -75,6 +85,9 @@ public class MenuScreen extends MenuScreenBase {
         buttonTable.setBackground(RegionNames.PANEL);
 
         buttonTable.add(playButton).row();
+        if (GameConfig.STRESS_TEST_BUTTON) {
+            buttonTable.add(stressButton).row();
+        }
         buttonTable.add(highScoreButton).row();
         buttonTable.add(optionsButton).row();
         buttonTable.add(quitButton);
@@ -97,17 +110,23 @@ public class MenuScreen extends MenuScreenBase {
 
     private void play() {
         log.debug("play()");
+        // not cached, every game starts from a fresh GameScreen
         game.setScreen(new GameScreen(game));
     }
 
+    private void stressTest() {
+        log.debug("stressTest()");
+        game.setScreen(new GameScreen(game, true));
+    }
+
     private void showHighScore() {
         log.debug("showHighScore()");
-        game.setScreen(new HighScoreScreen(game));
+        game.getScreenRegistry().show(HighScoreScreen.class);
     }
 
     private void showOptions() {
         log.debug("showOptions() from MenuScreen");
-        game.setScreen(new OptionsScreen(game));
+        game.getScreenRegistry().show(OptionsScreen.class);
     }
 
 //    private static ImageButton createButton(TextureAtlas atlas, String upRegionName, String downRegionName) {
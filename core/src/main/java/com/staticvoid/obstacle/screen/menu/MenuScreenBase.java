@@ -11,6 +11,9 @@ import com.staticvoid.obstacle.ObstacleAvoidGame;
 import com.staticvoid.obstacle.config.GameConfig;
 import com.staticvoid.obstacle.util.GdxUtils;
 
+// Menu screens are cached by ScreenRegistry. The Stage and the UI tree are
+// built on the first show and kept, later visits only refresh() what may have
+// changed, so navigating the menus doesn't allocate or lay out again.
 public abstract class MenuScreenBase extends ScreenAdapter {
 
     // protected - accessible in subclasses
@@ -27,18 +30,24 @@ public abstract class MenuScreenBase extends ScreenAdapter {
 
     @Override
     public void show() {
-        viewport = new FitViewport(GameConfig.HUD_WIDTH, GameConfig.HUD_HEIGHT);
-        stage = new Stage(viewport, game.getBatch());
+        if (stage == null) {
+            viewport = new FitViewport(GameConfig.HUD_WIDTH, GameConfig.HUD_HEIGHT);
+            stage = new Stage(viewport, game.getBatch());
 
+            stage.addActor(createUi());
+        }
 
-        Gdx.input.setInputProcessor(stage);
-
+        refresh();
 
-        stage.addActor(createUi());
+        Gdx.input.setInputProcessor(stage);
     }
 
     protected abstract Actor createUi();
 
+    // called on every show, after createUi() on the first one
+    protected void refresh() {
+    }
+
     @Override
     public void resize(int width, int height) {
         viewport.update(width, height, true);
@@ -54,11 +63,16 @@ public abstract class MenuScreenBase extends ScreenAdapter {
 
     @Override
     public void hide() {
-        dispose();
+        // the stage is kept for the next visit but must stop taking input
+        if (Gdx.input.getInputProcessor() == stage) {
+            Gdx.input.setInputProcessor(null);
+        }
     }
 
     @Override
     public void dispose() {
-        stage.dispose();
+        if (stage != null) {
+            stage.dispose();
+        }
     }
 }
@@ -124,9 +124,28 @@ public class OptionsScreen extends MenuScreenBase {
         }
     }
 
+    // screen is cached, keep the check boxes in line with the stored difficulty
+    @Override
+    protected void refresh() {
+        CheckBox current = checkBoxFor(GameManager.INSTANCE.getDifficultyLevel());
+
+        if (checkBoxGroup.getChecked() != current) {
+            current.setChecked(true); // group unchecks the others
+        }
+    }
+
+    private CheckBox checkBoxFor(DifficultyLevel difficultyLevel) {
+        if (difficultyLevel.isEasy()) {
+            return easy;
+        } else if (difficultyLevel.isHard()) {
+            return hard;
+        }
+        return medium;
+    }
+
     private void back() {
         log.debug("back() to MenuScreen from OptionsScreen");
-        game.setScreen(new MenuScreen(game));
+        game.getScreenRegistry().show(MenuScreen.class);
     }
 
 //    private static ImageButton createButton(TextureAtlas atlas, String regionName) {
@@ -0,0 +1,189 @@
+package com.staticvoid.obstacle.simulation;
+
+import com.badlogic.gdx.utils.Queue;
+import com.staticvoid.obstacle.entity.EntityPools;
+import com.staticvoid.obstacle.entity.ObstacleActor;
+import com.staticvoid.obstacle.entity.ObstacleGrid;
+import com.staticvoid.obstacle.entity.PlayerActor;
+import com.staticvoid.obstacle.util.pool.EntityPool;
+
+// one pooled ObstacleActor per obstacle, drawn by the Stage.
+// the Listener lets the screen add and remove them from its Stage
+public class ActorObstacleField implements ObstacleField {
+
+    public interface Listener {
+        void obstacleSpawned(ObstacleActor obstacle);
+
+        void obstacleRemoved(ObstacleActor obstacle);
+    }
+
+    private static final Listener NO_LISTENER = new Listener() {
+        @Override
+        public void obstacleSpawned(ObstacleActor obstacle) {
+        }
+
+        @Override
+        public void obstacleRemoved(ObstacleActor obstacle) {
+        }
+    };
+
+    // == attributes
+    // ring buffer in spawn order, oldest first, no shifting on expiry
+    private final Queue<ObstacleActor> obstacles = new Queue<ObstacleActor>();
+    private final EntityPool<ObstacleActor> obstaclePool;
+    private final ObstacleGrid obstacleGrid = new ObstacleGrid();
+
+    private Listener listener = NO_LISTENER;
+
+    // true while spawn order is also bottom to top order
+    private boolean ordered = true;
+
+    // == constructors
+    public ActorObstacleField() {
+        this(EntityPools.OBSTACLES);
+    }
+
+    // a pool of its own when simulations run on several threads
+    public ActorObstacleField(EntityPool<ObstacleActor> obstaclePool) {
+        this.obstaclePool = obstaclePool;
+    }
+
+    // == public methods
+    public void setListener(Listener listener) {
+        this.listener = listener == null ? NO_LISTENER : listener;
+    }
+
+    @Override
+    public void spawn(float x, float y, float yStep, float radius) {
+        if (obstacles.size > 0) {
+            ObstacleActor newest = obstacles.last();
+            ordered &= yStep == newest.getYStep() && y >= newest.getY();
+        }
+
+        ObstacleActor obstacle = obstaclePool.obtain();
+        obstacle.setYStep(yStep);
+        obstacle.setRadius(radius);
+        obstacle.setPosition(x, y);
+        obstacle.capturePreviousPosition();
+        obstacleGrid.add(obstacle);
+
+        obstacles.addLast(obstacle);
+        listener.obstacleSpawned(obstacle);
+    }
+
+    @Override
+    public void update() {
+        for (int i = 0; i < obstacles.size; i++) {
+            obstacles.get(i).update();
+        }
+    }
+
+    @Override
+    public void removePassed(float minY) {
+        if (ordered) {
+            // passed obstacles are all at the oldest end
+            while (obstacles.size > 0 && obstacles.first().getY() < minY) {
+                free(obstacles.removeFirst());
+            }
+        } else {
+            // one pass that keeps spawn order, removeIndex() would shift
+            // the queue once per removed obstacle
+            int count = obstacles.size;
+            for (int i = 0; i < count; i++) {
+                ObstacleActor obstacle = obstacles.removeFirst();
+
+                if (obstacle.getY() < minY) {
+                    free(obstacle);
+                } else {
+                    obstacles.addLast(obstacle);
+                }
+            }
+        }
+
+        if (obstacles.size == 0) {
+            ordered = true;
+        }
+    }
+
+    @Override
+    public boolean isPlayerColliding(PlayerActor player) {
+        if (obstacles.size == 0) {
+            return false;
+        }
+
+        // everything is above the player, nothing to test
+        float playerTop = player.getY() + 2 * player.getCollisionShape().radius;
+        if (getLowestY() > playerTop) {
+            return false;
+        }
+
+        // broad-phase grid, only obstacles near the player get the overlap test
+        return obstacleGrid.isPlayerColliding(player);
+    }
+
+    @Override
+    public void clear() {
+        while (obstacles.size > 0) {
+            free(obstacles.removeFirst());
+        }
+
+        ordered = true;
+    }
+
+    @Override
+    public int size() {
+        return obstacles.size;
+    }
+
+    @Override
+    public float getLowestY() {
+        if (ordered) {
+            return obstacles.first().getY();
+        }
+
+        float lowest = Float.MAX_VALUE;
+        for (int i = 0; i < obstacles.size; i++) {
+            lowest = Math.min(lowest, obstacles.get(i).getY());
+        }
+        return lowest;
+    }
+
+    @Override
+    public float getHighestY() {
+        if (ordered) {
+            return obstacles.last().getY();
+        }
+
+        float highest = -Float.MAX_VALUE;
+        for (int i = 0; i < obstacles.size; i++) {
+            highest = Math.max(highest, obstacles.get(i).getY());
+        }
+        return highest;
+    }
+
+    @Override
+    public float getCenterX(int index) {
+        return obstacles.get(index).getCollisionShape().x;
+    }
+
+    @Override
+    public float getCenterY(int index) {
+        return obstacles.get(index).getCollisionShape().y;
+    }
+
+    @Override
+    public float getRadius(int index) {
+        return obstacles.get(index).getCollisionShape().radius;
+    }
+
+    public Queue<ObstacleActor> getObstacles() {
+        return obstacles;
+    }
+
+    // == private methods
+    private void free(ObstacleActor obstacle) {
+        listener.obstacleRemoved(obstacle);
+        obstacleGrid.remove(obstacle);
+        obstaclePool.free(obstacle); // put back in pool, pool resets
+    }
+}
@@ -0,0 +1,151 @@
+package com.staticvoid.obstacle.simulation;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.staticvoid.obstacle.ecs.CollisionSystem;
+import com.staticvoid.obstacle.ecs.EntityWorld;
+import com.staticvoid.obstacle.ecs.ExpirySystem;
+import com.staticvoid.obstacle.ecs.MovementSystem;
+import com.staticvoid.obstacle.entity.PlayerActor;
+
+// Obstacles as entities in an EntityWorld: every obstacle has packed
+// components and is drawn by SpriteRenderSystem instead of a Stage.
+// GameSimulation keeps the rules (spawn timer, score, lives, random)
+// and drives the systems through the ObstacleField calls of its tick, in
+// this order: MovementSystem (update), ExpirySystem (removePassed) and
+// CollisionSystem (isPlayerColliding).
+//
+// Only obstacles are entities. The player belongs to GameSimulation, not to
+// the field: one PlayerActor for all three fields keeps them swappable and
+// their runs comparable, and replays and the calibrator step it headless.
+// A player entity next to it would be a second copy of the same state, so
+// the player stays a PlayerActor drawn by the Stage, and CollisionSystem
+// gets its circle from it in isPlayerColliding(), the one call that tests.
+//
+// EntityWorld walks entities in creation order, so obstacle index i is the
+// i-th oldest like in ObstacleStore, and while spawn order is also bottom to
+// top order expiry and collision stop early the same way.
+public class EcsObstacleField implements ObstacleField {
+
+    private static final int OBSTACLE_COMPONENTS = EntityWorld.TRANSFORM | EntityWorld.VELOCITY
+            | EntityWorld.COLLIDER | EntityWorld.SPRITE | EntityWorld.OBSTACLE;
+
+    // == attributes
+    private final EntityWorld world = new EntityWorld();
+    private final MovementSystem movementSystem = new MovementSystem();
+    private final ExpirySystem expirySystem = new ExpirySystem();
+    private final CollisionSystem collisionSystem = new CollisionSystem();
+
+    private TextureRegion obstacleRegion;
+
+    // true while spawn order is also bottom to top order
+    private boolean ordered = true;
+
+    // == public methods
+    // only needed for drawing, headless runs leave it null
+    public void setObstacleRegion(TextureRegion obstacleRegion) {
+        this.obstacleRegion = obstacleRegion;
+
+        for (int n = 0; n < world.size(); n++) {
+            world.setRegion(world.getEntity(n), obstacleRegion);
+        }
+    }
+
+    public EntityWorld getWorld() {
+        return world;
+    }
+
+    @Override
+    public void spawn(float x, float y, float yStep, float radius) {
+        if (world.size() > 0) {
+            int newest = world.getEntity(world.size() - 1);
+            ordered &= -yStep == world.getVelocityY(newest) && y >= world.getY(newest);
+        }
+
+        int obstacle = world.create(OBSTACLE_COMPONENTS);
+        world.setPosition(obstacle, x, y);
+        world.setVelocity(obstacle, 0f, -yStep);
+        world.setCollider(obstacle, radius);
+        world.setSprite(obstacle, obstacleRegion, 2 * radius, 2 * radius);
+    }
+
+    @Override
+    public void update() {
+        movementSystem.update(world);
+    }
+
+    @Override
+    public void removePassed(float minY) {
+        expirySystem.setMinY(minY);
+        expirySystem.setOrdered(ordered);
+        expirySystem.update(world);
+
+        if (world.size() == 0) {
+            ordered = true;
+        }
+    }
+
+    @Override
+    public boolean isPlayerColliding(PlayerActor playerActor) {
+        // once per tick after the player moved
+        collisionSystem.setPlayer(playerActor.getX(), playerActor.getY(),
+                playerActor.getCollisionShape().radius);
+        collisionSystem.setOrdered(ordered);
+        collisionSystem.update(world);
+        return collisionSystem.isPlayerHit();
+    }
+
+    @Override
+    public void clear() {
+        world.destroyAll(EntityWorld.OBSTACLE);
+        ordered = true;
+    }
+
+    @Override
+    public int size() {
+        return world.size();
+    }
+
+    @Override
+    public float getLowestY() {
+        if (ordered) {
+            return world.getY(world.getEntity(0));
+        }
+
+        float lowest = Float.MAX_VALUE;
+        for (int n = 0; n < world.size(); n++) {
+            lowest = Math.min(lowest, world.getY(world.getEntity(n)));
+        }
+        return lowest;
+    }
+
+    @Override
+    public float getHighestY() {
+        if (ordered) {
+            return world.getY(world.getEntity(world.size() - 1));
+        }
+
+        float highest = -Float.MAX_VALUE;
+        for (int n = 0; n < world.size(); n++) {
+            highest = Math.max(highest, world.getY(world.getEntity(n)));
+        }
+        return highest;
+    }
+
+    // position is bottom left, the circle is centered in the obstacle
+    @Override
+    public float getCenterX(int index) {
+        int obstacle = world.getEntity(index);
+        return world.getX(obstacle) + world.getRadius(obstacle);
+    }
+
+    @Override
+    public float getCenterY(int index) {
+        int obstacle = world.getEntity(index);
+        return world.getY(obstacle) + world.getRadius(obstacle);
+    }
+
+    @Override
+    public float getRadius(int index) {
+        return world.getRadius(world.getEntity(index));
+    }
+}
@@ -0,0 +1,74 @@
+package com.staticvoid.obstacle.simulation;
+
+// Fixed timestep accumulator. Frame time goes in, a whole number of
+// simulation ticks comes out, and the leftover fraction of a tick is
+// exposed as the alpha renderers interpolate with.
+// After a hitch at most maxTicksPerFrame ticks are run, the rest of the
+// backlog is dropped so a slow frame can't snowball into slower ones.
+public class FixedTimestep {
+
+    // == attributes
+    private final float tickDuration; // seconds
+    private final long tickDurationNanos;
+    private final int maxTicksPerFrame;
+
+    private float accumulator;
+    private float alpha;
+    private long droppedTicks;
+
+    // == constructors
+    public FixedTimestep(int tickRate, int maxTicksPerFrame) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("tickRate must be positive");
+        }
+
+        if (maxTicksPerFrame <= 0) {
+            throw new IllegalArgumentException("maxTicksPerFrame must be positive");
+        }
+
+        this.tickDuration = 1f / tickRate;
+        this.tickDurationNanos = 1000000000L / tickRate;
+        this.maxTicksPerFrame = maxTicksPerFrame;
+    }
+
+    // == public methods
+    // returns how many ticks to run this frame
+    public int advance(float frameDelta) {
+        accumulator += frameDelta;
+
+        int ticks = (int) (accumulator / tickDuration);
+
+        if (ticks > maxTicksPerFrame) {
+            droppedTicks += ticks - maxTicksPerFrame;
+            accumulator -= (ticks - maxTicksPerFrame) * tickDuration;
+            ticks = maxTicksPerFrame;
+        }
+
+        accumulator -= ticks * tickDuration;
+        alpha = Math.min(1f, accumulator / tickDuration);
+
+        return ticks;
+    }
+
+    public void reset() {
+        accumulator = 0f;
+        alpha = 0f;
+    }
+
+    public float getTickDuration() {
+        return tickDuration;
+    }
+
+    public long getTickDurationNanos() {
+        return tickDurationNanos;
+    }
+
+    // 0 = last tick, 1 = next tick
+    public float getAlpha() {
+        return alpha;
+    }
+
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+}
@@ -0,0 +1,325 @@
+package com.staticvoid.obstacle.simulation;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.staticvoid.obstacle.config.DifficultyLevel;
+import com.staticvoid.obstacle.config.GameConfig;
+import com.staticvoid.obstacle.config.ObstacleFieldType;
+import com.staticvoid.obstacle.entity.PlayerActor;
+import com.staticvoid.obstacle.event.GameEvent;
+import com.staticvoid.obstacle.event.GameEventBus;
+import com.staticvoid.obstacle.util.SimulationMath;
+
+// Owns all gameplay state - player, obstacles, lives and score - and steps it.
+// Nothing in here touches Gdx.graphics, Gdx.input or Gdx.audio so the
+// simulation can run without a GL context (headless backend, JUnit, JMH).
+// GameScreen feeds input in and reacts to what happened through the events
+// the tick publishes on its GameEventBus, drained once per frame. Callers
+// that don't listen must still clear() the bus, see GameEventBus.
+// Obstacles live in an ObstacleField: scene2d actors, flat arrays or ECS entities.
+//
+// A run is fully determined by its seed, tick rate and the input of every tick:
+// randomness comes from the simulation's own generator, never MathUtils.random,
+// timers count ticks and positions stay on the SimulationMath grid, so the same
+// run plays out bit for bit on desktop, Android and in the browser.
+//
+// Stress mode (startStressMode()) replaces the spawn timer with a spawn rate,
+// several obstacles per tick if need be, with random speeds and radii, and
+// takes no lives so the run never ends. StressRamp drives its rate.
+public class GameSimulation {
+
+    // player input resolution, -MAX_INPUT full speed left to MAX_INPUT full speed right
+    public static final int MAX_INPUT = 127;
+
+    private static final int DISPLAY_SCORE_PER_SECOND = 60;
+
+    // == attributes
+    private final DifficultyLevel difficultyLevel;
+    private final long seed;
+    private final int tickRate;
+    private final RandomXS128 random;
+    private final PlayerActor player = new PlayerActor();
+    private final ObstacleField obstacleField;
+
+    private final float startPlayerX =
+            SimulationMath.snap((GameConfig.WORLD_WIDTH - GameConfig.PLAYER_SIZE) / 2f);
+    private final float startPlayerY = SimulationMath.snap(GameConfig.PLAYER_SIZE / 2f);
+    private final float obstacleRadius = SimulationMath.snap(GameConfig.OBSTACLE_BOUNDS_RADIUS);
+    private final int worldWidthUnits = SimulationMath.toUnits(GameConfig.WORLD_WIDTH);
+    private final int maxObstacleXUnits =
+            SimulationMath.toUnits(GameConfig.WORLD_WIDTH - GameConfig.OBSTACLE_SIZE);
+    private float minObstacleY = SimulationMath.snap(-GameConfig.OBSTACLE_SIZE);
+
+    // per tick, derived from the per second values in GameConfig
+    private final int maxPlayerStepUnits;
+    private final float obstacleStep;
+    private final int obstacleSpawnTicks;
+    private final int scoreTicks;
+
+    private final GameEventBus events = new GameEventBus();
+
+    private int obstacleTicks;
+    private int scoreTimerTicks;
+    private int lives = GameConfig.LIVES_START;
+    private int score;
+    private int displayScore;
+    private int displayCredit; // one display point per tickRate
+
+    // -MAX_INPUT..MAX_INPUT
+    private int playerInput;
+
+    // stress mode, per tick values in SimulationMath units
+    private boolean stressMode;
+    private int obstaclesPerSecond;
+    private int spawnCredit; // one obstacle per tickRate
+    private int minStepUnits;
+    private int maxStepUnits;
+    private int minRadiusUnits;
+    private int maxRadiusUnits;
+
+    // == constructors
+    public GameSimulation(DifficultyLevel difficultyLevel, long seed) {
+        this(difficultyLevel, seed, GameConfig.SIMULATION_TICK_RATE,
+                newObstacleField(GameConfig.OBSTACLE_FIELD));
+    }
+
+    public GameSimulation(DifficultyLevel difficultyLevel, long seed, int tickRate,
+                          ObstacleField obstacleField) {
+        this(difficultyLevel, difficultyLevel.getObstacleSpeed(), GameConfig.OBSTACLE_SPAWN_TIME,
+                seed, tickRate, obstacleField);
+    }
+
+    // obstacleSpeed (world units per second) and obstacleSpawnTime (seconds) override
+    // the config values of difficultyLevel, for tuning them without rebuilding
+    public GameSimulation(DifficultyLevel difficultyLevel, float obstacleSpeed, float obstacleSpawnTime,
+                          long seed, int tickRate, ObstacleField obstacleField) {
+        this.difficultyLevel = difficultyLevel;
+        this.seed = seed;
+        this.tickRate = tickRate;
+        this.random = new RandomXS128(seed);
+        this.obstacleField = obstacleField;
+
+        maxPlayerStepUnits = SimulationMath.toUnits(
+                SimulationMath.perTick(GameConfig.MAX_PLAYER_X_SPEED, tickRate));
+        obstacleStep = SimulationMath.perTick(obstacleSpeed, tickRate);
+        obstacleSpawnTicks = SimulationMath.toTicks(obstacleSpawnTime, tickRate);
+        scoreTicks = SimulationMath.toTicks(GameConfig.SCORE_MAX_TIME, tickRate);
+
+        player.setPosition(startPlayerX, startPlayerY);
+        player.capturePreviousPosition();
+    }
+
+    // == static methods
+    public static ObstacleField newObstacleField(ObstacleFieldType type) {
+        switch (type) {
+            case ACTORS:
+                return new ActorObstacleField();
+            case STORE:
+                return new ObstacleStore();
+            case ECS:
+                return new EcsObstacleField();
+            default:
+                throw new IllegalArgumentException("Unknown obstacle field " + type);
+        }
+    }
+
+    // analog input (-1..1) to what the simulation and replays work with
+    public static int quantizeInput(float input) {
+        return Math.round(MathUtils.clamp(input, -1f, 1f) * MAX_INPUT);
+    }
+
+    // == public methods
+    // what happened in the ticks since the last drain()
+    public GameEventBus getEvents() {
+        return events;
+    }
+
+    // endless run spawning obstaclesPerSecond, speeds (world units per second) and
+    // radii (world units) uniformly random in the given ranges. call before the first tick
+    public void startStressMode(int obstaclesPerSecond, float minSpeed, float maxSpeed,
+                                float minRadius, float maxRadius) {
+        stressMode = true;
+        setObstaclesPerSecond(obstaclesPerSecond);
+
+        minStepUnits = SimulationMath.toUnits(SimulationMath.perTick(minSpeed, tickRate));
+        maxStepUnits = Math.max(minStepUnits,
+                SimulationMath.toUnits(SimulationMath.perTick(maxSpeed, tickRate)));
+        minRadiusUnits = SimulationMath.toUnits(minRadius);
+        maxRadiusUnits = Math.max(minRadiusUnits, SimulationMath.toUnits(maxRadius));
+
+        // the biggest obstacles must be fully out before they go
+        minObstacleY = SimulationMath.toWorldUnits(-2 * maxRadiusUnits);
+    }
+
+    public void setObstaclesPerSecond(int obstaclesPerSecond) {
+        this.obstaclesPerSecond = Math.max(0, obstaclesPerSecond);
+    }
+
+    public int getObstaclesPerSecond() {
+        return obstaclesPerSecond;
+    }
+
+    public boolean isStressMode() {
+        return stressMode;
+    }
+
+    // see quantizeInput
+    public void setPlayerInput(int playerInput) {
+        this.playerInput = MathUtils.clamp(playerInput, -MAX_INPUT, MAX_INPUT);
+    }
+
+    // one simulation tick of 1 / tickRate seconds
+    public void update() {
+        if (isGameOver()) {
+            return;
+        }
+
+        // integer math, the step lands on the grid
+        int playerStepUnits = playerInput * maxPlayerStepUnits / MAX_INPUT;
+        player.move(SimulationMath.toWorldUnits(playerStepUnits));
+
+        obstacleField.update();
+
+        // create new obstacle every interval and remove passed obstacles
+        if (stressMode) {
+            createStressObstacles();
+        } else {
+            createNewObstacle();
+        }
+        removePassedObstacles();
+
+        updateScore();
+        updateDisplayScore();
+
+        // stress mode still pays for the collision test, hits just cost nothing
+        if (isPlayerCollidingWithObstacle()) {
+            events.publish(GameEvent.HIT, 0);
+
+            if (!stressMode) {
+                lives--;
+                events.publish(GameEvent.LIFE_LOST, lives);
+
+                if (isGameOver()) {
+                    events.publish(GameEvent.GAME_OVER, score);
+                } else {
+                    restart();
+                }
+            }
+        }
+    }
+
+    public boolean isGameOver() {
+        return lives <= 0;
+    }
+
+    public PlayerActor getPlayer() {
+        return player;
+    }
+
+    public ObstacleField getObstacleField() {
+        return obstacleField;
+    }
+
+    public DifficultyLevel getDifficultyLevel() {
+        return difficultyLevel;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDisplayScore() {
+        return displayScore;
+    }
+
+    // == private methods
+    private void restart() {
+        obstacleField.clear();
+        player.setPosition(startPlayerX, startPlayerY);
+        player.capturePreviousPosition();
+    }
+
+    private void createNewObstacle() {
+        obstacleTicks++;
+
+        if (obstacleTicks >= obstacleSpawnTicks) {
+            // 0 to WORLD_WIDTH - OBSTACLE_SIZE inclusive, on the grid
+            float obstacleX = SimulationMath.toWorldUnits(random.nextInt(maxObstacleXUnits + 1));
+            float obstacleY = GameConfig.WORLD_HEIGHT;
+
+            obstacleField.spawn(obstacleX, obstacleY, obstacleStep, obstacleRadius);
+
+            obstacleTicks = 0;
+        }
+    }
+
+    // integer spawn credit keeps the rate exact at any tick rate
+    // and lets several obstacles start on the same tick
+    private void createStressObstacles() {
+        spawnCredit += obstaclesPerSecond;
+
+        while (spawnCredit >= tickRate) {
+            spawnCredit -= tickRate;
+
+            int radiusUnits = randomBetween(minRadiusUnits, maxRadiusUnits);
+            int xUnits = random.nextInt(worldWidthUnits - 2 * radiusUnits + 1);
+            int stepUnits = randomBetween(minStepUnits, maxStepUnits);
+
+            obstacleField.spawn(SimulationMath.toWorldUnits(xUnits), GameConfig.WORLD_HEIGHT,
+                    SimulationMath.toWorldUnits(stepUnits), SimulationMath.toWorldUnits(radiusUnits));
+        }
+    }
+
+    // min to max inclusive
+    private int randomBetween(int min, int max) {
+        return min + random.nextInt(max - min + 1);
+    }
+
+    private void removePassedObstacles() {
+        // minObstacleY is -OBSTACLE_SIZE, 0 end of bottom world bounds
+        obstacleField.removePassed(minObstacleY);
+    }
+
+    private boolean isPlayerCollidingWithObstacle() {
+        return obstacleField.isPlayerColliding(player);
+    }
+
+    private void updateScore() {
+        // score is added to a random intervals
+        // the longer player lives, the more points racked up
+        scoreTimerTicks++;
+
+        if (scoreTimerTicks >= scoreTicks) {
+            score += 1 + random.nextInt(5); // min 1, max 5, inclusive
+            events.publish(GameEvent.SCORE_CHANGED, score);
+            scoreTimerTicks = 0;
+        }
+    }
+
+    private void updateDisplayScore() {
+        // counts up DISPLAY_SCORE_PER_SECOND points per second whatever the tick rate,
+        // integer credit like the stress spawns, nothing is banked while caught up
+        if (displayScore >= score) {
+            displayCredit = 0;
+            return;
+        }
+
+        displayCredit += DISPLAY_SCORE_PER_SECOND;
+        while (displayCredit >= tickRate && displayScore < score) {
+            displayCredit -= tickRate;
+            displayScore++;
+        }
+    }
+}
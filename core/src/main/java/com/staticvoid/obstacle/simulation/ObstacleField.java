@@ -0,0 +1,53 @@
+package com.staticvoid.obstacle.simulation;
+
+import com.staticvoid.obstacle.entity.PlayerActor;
+
+// Storage for the falling obstacles of one GameSimulation.
+// Implementations must give identical gameplay so they can be swapped
+// and compared: ActorObstacleField (scene2d actors), ObstacleStore (flat arrays)
+// and EcsObstacleField (entities in an EntityWorld), see ObstacleFieldType.
+//
+// Obstacles are kept in spawn order. As long as they all share one speed
+// spawn order is also bottom to top, so expiry only looks at the oldest end
+// and collision can stop at the first obstacle above the player.
+// Mixed speeds (stress mode) break that order, all fall back to full scans.
+//
+// Stress mode is the exception to identical gameplay: obstacles overlap each
+// other and the player, and which one is hit first depends on test order.
+// ObstacleStore and EcsObstacleField test oldest first and stay identical,
+// ActorObstacleField goes by ObstacleGrid cell, so its hit count differs.
+// Normal games space their obstacles out and match on all three.
+public interface ObstacleField {
+
+    // x, y are bottom left like Actor positions, yStep is world units per tick,
+    // the obstacle is 2 * radius wide. all four are on the SimulationMath grid
+    void spawn(float x, float y, float yStep, float radius);
+
+    // moves every obstacle down by its yStep for one tick
+    void update();
+
+    // drops every obstacle that fell below minY, in one sweep
+    void removePassed(float minY);
+
+    // true for the first obstacle not already hit that overlaps the player,
+    // first in the implementation's test order, see above
+    boolean isPlayerColliding(PlayerActor player);
+
+    void clear();
+
+    // live Y-window, bottom y of the lowest and of the highest obstacle.
+    // only meaningful when size() > 0
+    float getLowestY();
+
+    float getHighestY();
+
+    int size();
+
+    // collision circle of an obstacle, 0 is the oldest up to size() - 1.
+    // for drawing and tools, the simulation itself doesn't need it
+    float getCenterX(int index);
+
+    float getCenterY(int index);
+
+    float getRadius(int index);
+}
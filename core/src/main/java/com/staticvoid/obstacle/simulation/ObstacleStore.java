@@ -0,0 +1,262 @@
+package com.staticvoid.obstacle.simulation;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.staticvoid.obstacle.entity.PlayerActor;
+import com.staticvoid.obstacle.util.SimulationMath;
+
+// Structure-of-arrays obstacle storage, one primitive array per attribute
+// instead of one Actor + Circle object per obstacle. The move and collide
+// loops walk contiguous floats, nothing is allocated after the arrays grow
+// to the peak obstacle count. Drawn by ObstacleStoreRenderer.
+//
+// The arrays are a ring buffer in spawn order: expiring the oldest obstacles
+// only moves the head index, nothing is shifted.
+//
+// Math mirrors ObstacleActor/ActorBase exactly (position is bottom left,
+// circle center is position + radius) so both fields play the same game.
+public class ObstacleStore implements ObstacleField {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    // == attributes
+    private float[] x;
+    private float[] y;
+    private float[] previousY; // y at the start of the tick, for render interpolation
+    private float[] yStep;
+    private float[] radius;
+    private boolean[] hit;
+
+    private int head; // physical index of the oldest obstacle
+    private int size;
+    private int mask; // capacity is a power of two, index & mask wraps
+
+    // true while spawn order is also bottom to top order
+    private boolean ordered = true;
+
+    // == constructors
+    public ObstacleStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ObstacleStore(int capacity) {
+        allocate(MathUtils.nextPowerOfTwo(Math.max(capacity, 1)));
+    }
+
+    // == public methods
+    @Override
+    public void spawn(float x, float y, float yStep, float radius) {
+        if (size == this.x.length) {
+            grow();
+        }
+
+        if (size > 0) {
+            int newest = (head + size - 1) & mask;
+            ordered &= yStep == this.yStep[newest] && y >= this.y[newest];
+        }
+
+        int index = (head + size) & mask;
+        size++;
+
+        this.x[index] = x;
+        this.y[index] = y;
+        previousY[index] = y;
+        this.yStep[index] = yStep;
+        this.radius[index] = radius;
+        hit[index] = false;
+    }
+
+    @Override
+    public void update() {
+        float[] y = this.y;
+        float[] previousY = this.previousY;
+        float[] yStep = this.yStep;
+
+        // order doesn't matter here, walk the raw slots
+        for (int n = 0; n < size; n++) {
+            int i = (head + n) & mask;
+            previousY[i] = y[i];
+            y[i] -= yStep[i];
+        }
+    }
+
+    @Override
+    public void removePassed(float minY) {
+        if (ordered) {
+            // passed obstacles are all at the oldest end
+            while (size > 0 && y[head] < minY) {
+                head = (head + 1) & mask;
+                size--;
+            }
+        } else {
+            compact(minY);
+        }
+
+        if (size == 0) {
+            head = 0;
+            ordered = true;
+        }
+    }
+
+    @Override
+    public boolean isPlayerColliding(PlayerActor player) {
+        float playerX = player.getX();
+        float playerY = player.getY();
+        float playerRadius = player.getCollisionShape().radius;
+        float playerTop = playerY + 2 * playerRadius;
+
+        for (int n = 0; n < size; n++) {
+            int i = (head + n) & mask;
+
+            // this one and every newer one is above the player
+            if (ordered && y[i] > playerTop) {
+                return false;
+            }
+
+            if (hit[i]) {
+                continue;
+            }
+
+            boolean overlaps = SimulationMath.circlesOverlap(
+                    playerX, playerY, playerRadius, x[i], y[i], radius[i]);
+
+            hit[i] = overlaps;
+
+            if (overlaps) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        head = 0;
+        size = 0;
+        ordered = true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public float getLowestY() {
+        if (ordered) {
+            return y[head];
+        }
+
+        float lowest = Float.MAX_VALUE;
+        for (int n = 0; n < size; n++) {
+            lowest = Math.min(lowest, y[(head + n) & mask]);
+        }
+        return lowest;
+    }
+
+    @Override
+    public float getHighestY() {
+        if (ordered) {
+            return y[(head + size - 1) & mask];
+        }
+
+        float highest = -Float.MAX_VALUE;
+        for (int n = 0; n < size; n++) {
+            highest = Math.max(highest, y[(head + n) & mask]);
+        }
+        return highest;
+    }
+
+    // index is 0 for the oldest obstacle up to size() - 1 for the newest
+    public float getX(int index) {
+        return x[(head + index) & mask];
+    }
+
+    public float getY(int index) {
+        return y[(head + index) & mask];
+    }
+
+    public float getPreviousY(int index) {
+        return previousY[(head + index) & mask];
+    }
+
+    @Override
+    public float getRadius(int index) {
+        return radius[(head + index) & mask];
+    }
+
+    // position is bottom left, the circle is centered in the obstacle
+    @Override
+    public float getCenterX(int index) {
+        int i = (head + index) & mask;
+        return x[i] + radius[i];
+    }
+
+    @Override
+    public float getCenterY(int index) {
+        int i = (head + index) & mask;
+        return y[i] + radius[i];
+    }
+
+    // == private methods
+    // keeps spawn order, drops everything below minY
+    private void compact(float minY) {
+        int kept = 0;
+
+        for (int n = 0; n < size; n++) {
+            int from = (head + n) & mask;
+
+            if (y[from] < minY) {
+                continue;
+            }
+
+            int to = (head + kept) & mask;
+            if (to != from) {
+                x[to] = x[from];
+                y[to] = y[from];
+                previousY[to] = previousY[from];
+                yStep[to] = yStep[from];
+                radius[to] = radius[from];
+                hit[to] = hit[from];
+            }
+            kept++;
+        }
+
+        size = kept;
+    }
+
+    private void allocate(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        previousY = new float[capacity];
+        yStep = new float[capacity];
+        radius = new float[capacity];
+        hit = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    // unwraps the ring into new arrays twice the size, oldest at index 0
+    private void grow() {
+        float[] oldX = x;
+        float[] oldY = y;
+        float[] oldPreviousY = previousY;
+        float[] oldYStep = yStep;
+        float[] oldRadius = radius;
+        boolean[] oldHit = hit;
+        int oldMask = mask;
+
+        allocate(oldX.length * 2);
+
+        for (int n = 0; n < size; n++) {
+            int from = (head + n) & oldMask;
+            x[n] = oldX[from];
+            y[n] = oldY[from];
+            previousY[n] = oldPreviousY[from];
+            yStep[n] = oldYStep[from];
+            radius[n] = oldRadius[from];
+            hit[n] = oldHit[from];
+        }
+
+        head = 0;
+    }
+}
@@ -1,5 +1,6 @@
 package com.staticvoid.obstacle.util;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
@@ -15,6 +16,14 @@ public class GdxUtils {
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
     }
 
+    // without the extension KTXTextureData decodes ETC1 on the CPU, worse than a PNG,
+    // the browser backend can't read KTX files at all
+    public static boolean isEtc1Supported() {
+        return Gdx.graphics != null
+                && Gdx.app.getType() != Application.ApplicationType.WebGL
+                && Gdx.graphics.supportsExtension("GL_OES_compressed_ETC1_RGB8_texture");
+    }
+
     public static void waitMillis(long millis) {
         try {
             Thread.sleep(millis);
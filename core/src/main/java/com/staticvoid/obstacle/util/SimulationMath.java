@@ -0,0 +1,49 @@
+package com.staticvoid.obstacle.util;
+
+// Deterministic math for the simulation.
+// GWT compiles float to JavaScript double, so float arithmetic that rounds on
+// the JVM doesn't round in the browser and runs drift apart between backends.
+// Positions, per tick steps and radii are snapped to a 1/65536 world unit grid
+// instead: on that grid adding and subtracting is exact in float and in double
+// alike. Products (the collision test) are done in double where they are exact too.
+public final class SimulationMath {
+
+    private static final int UNITS_PER_WORLD_UNIT = 1 << 16;
+    private static final float WORLD_UNITS_PER_UNIT = 1f / UNITS_PER_WORLD_UNIT;
+
+    private SimulationMath() {
+    }
+
+    public static int toUnits(float worldUnits) {
+        return Math.round(worldUnits * UNITS_PER_WORLD_UNIT);
+    }
+
+    public static float toWorldUnits(int units) {
+        return units * WORLD_UNITS_PER_UNIT;
+    }
+
+    // nearest value on the grid
+    public static float snap(float worldUnits) {
+        return toWorldUnits(toUnits(worldUnits));
+    }
+
+    // world units per second to world units per tick, on the grid
+    public static float perTick(float perSecond, int tickRate) {
+        return toWorldUnits((int) Math.round((double) perSecond * UNITS_PER_WORLD_UNIT / tickRate));
+    }
+
+    // seconds to whole ticks, at least one
+    public static int toTicks(float seconds, int tickRate) {
+        return Math.max(1, Math.round(seconds * tickRate));
+    }
+
+    // circles given by bottom left position and radius like the actors,
+    // strict like Intersector.overlaps(Circle, Circle)
+    public static boolean circlesOverlap(float ax, float ay, float aRadius,
+                                         float bx, float by, float bRadius) {
+        double dx = ((double) ax + aRadius) - ((double) bx + bRadius);
+        double dy = ((double) ay + aRadius) - ((double) by + bRadius);
+        double radiusSum = (double) aRadius + bRadius;
+        return dx * dx + dy * dy < radiusSum * radiusSum;
+    }
+}
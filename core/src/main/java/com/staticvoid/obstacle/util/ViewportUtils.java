@@ -11,6 +11,8 @@ public class ViewportUtils {
 
     private static final int DEFAULT_CELL_SIZE = 1;
 
+    private static final Color OLD_COLOR = new Color();
+
     private ViewportUtils() {
         // private constructor
     }
@@ -20,6 +22,7 @@ public class ViewportUtils {
     }
 
     // cell size by default one world unit
+    // resubmits every line each call, GameScreen uses the cached DebugOverlay grid
     public static void drawGrid(Viewport viewport, ShapeRenderer renderer, int cellSize) {
         // validate params
         if(viewport == null) {
@@ -35,7 +38,7 @@ public class ViewportUtils {
         }
 
         // copy old color from renderer
-        Color oldColor = new Color(renderer.getColor());
+        OLD_COLOR.set(renderer.getColor());
 
         int worldWidth = (int)viewport.getWorldWidth();
         int worldHeight = (int)viewport.getWorldHeight();
@@ -53,7 +56,7 @@ public class ViewportUtils {
 
         // draw horizontal lines
         for(int y = -doubleWorldHeight; y < doubleWorldHeight; y += cellSize) {
-            renderer.line(-doubleWorldWidth, y, doubleWorldHeight, y);
+            renderer.line(-doubleWorldWidth, y, doubleWorldWidth, y);
         }
 
         // render x and y axis lines, red
@@ -68,7 +71,7 @@ public class ViewportUtils {
         
         renderer.end();
 
-        renderer.setColor(oldColor);
+        renderer.setColor(OLD_COLOR);
 
     }
 
@@ -0,0 +1,161 @@
+package com.staticvoid.obstacle.util.debug;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.glutils.ImmediateModeRenderer20;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import com.staticvoid.obstacle.entity.PlayerActor;
+import com.staticvoid.obstacle.simulation.ObstacleField;
+
+/*
+* world grid and collision circles on top of the game.
+* The grid only changes with the viewport, so it is baked into a static Mesh
+* on resize and drawn with a single draw call. Collision circles of the player
+* and every obstacle go through one ShapeRenderer begin/end.
+* Actors know nothing about it (Stage debug stays off), so a hidden overlay
+* costs the one isEnabled() check per frame in the screen.
+ */
+public class DebugOverlay implements Disposable {
+
+    private static final int CELL_SIZE = 1; // world units
+    private static final int CIRCLE_SEGMENTS = 16;
+    private static final float CENTER_MARK_SIZE = 0.1f;
+
+    private static final float GRID_COLOR = Color.WHITE.toFloatBits();
+    private static final float AXIS_COLOR = Color.RED.toFloatBits();
+    private static final float BOUNDS_COLOR = Color.GREEN.toFloatBits();
+
+    private static final int FLOATS_PER_VERTEX = 3; // x, y, packed color
+
+    // == attributes
+    private final ShaderProgram shader;
+    private final ShapeRenderer shapeRenderer = new ShapeRenderer();
+
+    private Mesh gridMesh;
+    private int gridWorldWidth;
+    private int gridWorldHeight;
+
+    private boolean enabled;
+
+    // == constructors
+    public DebugOverlay(boolean enabled) {
+        this.enabled = enabled;
+        // same shader ShapeRenderer uses, position and color, no texture
+        shader = ImmediateModeRenderer20.createDefaultShader(false, true, 0);
+    }
+
+    // == public methods
+    public void toggle() {
+        enabled = !enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // rebuilds the grid mesh when the world size changed
+    public void resize(Viewport viewport) {
+        int worldWidth = (int) viewport.getWorldWidth();
+        int worldHeight = (int) viewport.getWorldHeight();
+
+        if (gridMesh != null && worldWidth == gridWorldWidth && worldHeight == gridWorldHeight) {
+            return;
+        }
+
+        gridWorldWidth = worldWidth;
+        gridWorldHeight = worldHeight;
+
+        if (gridMesh != null) {
+            gridMesh.dispose();
+        }
+        gridMesh = buildGrid(worldWidth, worldHeight);
+    }
+
+    // call only while enabled, after resize()
+    public void render(Camera camera, PlayerActor player, ObstacleField obstacles) {
+        shader.bind();
+        shader.setUniformMatrix("u_projModelView", camera.combined);
+        gridMesh.render(shader, GL20.GL_LINES);
+
+        shapeRenderer.setProjectionMatrix(camera.combined);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
+        shapeRenderer.setColor(Color.RED);
+
+        Circle playerShape = player.getCollisionShape();
+        drawCircle(playerShape.x, playerShape.y, playerShape.radius);
+
+        for (int i = 0; i < obstacles.size(); i++) {
+            drawCircle(obstacles.getCenterX(i), obstacles.getCenterY(i), obstacles.getRadius(i));
+        }
+
+        shapeRenderer.end();
+    }
+
+    @Override
+    public void dispose() {
+        if (gridMesh != null) {
+            gridMesh.dispose();
+        }
+        shader.dispose();
+        shapeRenderer.dispose();
+    }
+
+    // == private methods
+    private void drawCircle(float x, float y, float radius) {
+        shapeRenderer.x(x, y, CENTER_MARK_SIZE);
+        shapeRenderer.circle(x, y, radius, CIRCLE_SEGMENTS);
+    }
+
+    // cell lines over twice the world in every direction (visible when zoomed out
+    // with the debug camera), red axes and the green top and right world bounds
+    private static Mesh buildGrid(int worldWidth, int worldHeight) {
+        int doubleWorldWidth = worldWidth * 2;
+        int doubleWorldHeight = worldHeight * 2;
+
+        int verticalLines = 2 * doubleWorldWidth / CELL_SIZE;
+        int horizontalLines = 2 * doubleWorldHeight / CELL_SIZE;
+        int lineCount = verticalLines + horizontalLines + 4;
+
+        float[] vertices = new float[lineCount * 2 * FLOATS_PER_VERTEX];
+        int index = 0;
+
+        for (int x = -doubleWorldWidth; x < doubleWorldWidth; x += CELL_SIZE) {
+            index = line(vertices, index, x, -doubleWorldHeight, x, doubleWorldHeight, GRID_COLOR);
+        }
+
+        for (int y = -doubleWorldHeight; y < doubleWorldHeight; y += CELL_SIZE) {
+            index = line(vertices, index, -doubleWorldWidth, y, doubleWorldWidth, y, GRID_COLOR);
+        }
+
+        // drawn after the grid lines they cover
+        index = line(vertices, index, 0, -doubleWorldHeight, 0, doubleWorldHeight, AXIS_COLOR);
+        index = line(vertices, index, -doubleWorldWidth, 0, doubleWorldWidth, 0, AXIS_COLOR);
+
+        index = line(vertices, index, 0, worldHeight, worldWidth, worldHeight, BOUNDS_COLOR);
+        index = line(vertices, index, worldWidth, 0, worldWidth, worldHeight, BOUNDS_COLOR);
+
+        Mesh mesh = new Mesh(true, index / FLOATS_PER_VERTEX, 0,
+                new VertexAttribute(VertexAttributes.Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+                VertexAttribute.ColorPacked());
+        mesh.setVertices(vertices, 0, index);
+        return mesh;
+    }
+
+    private static int line(float[] vertices, int index, float x1, float y1, float x2, float y2, float color) {
+        vertices[index++] = x1;
+        vertices[index++] = y1;
+        vertices[index++] = color;
+        vertices[index++] = x2;
+        vertices[index++] = y2;
+        vertices[index++] = color;
+        return index;
+    }
+}
@@ -0,0 +1,264 @@
+package com.staticvoid.obstacle.util.debug;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.StringBuilder;
+import com.staticvoid.obstacle.audio.AudioService;
+import com.staticvoid.obstacle.config.GameConfig;
+import com.staticvoid.obstacle.config.ObstacleFieldType;
+import com.staticvoid.obstacle.ecs.EntityWorld;
+import com.staticvoid.obstacle.entity.EntityPools;
+import com.staticvoid.obstacle.input.InputLatency;
+import com.staticvoid.obstacle.util.pool.EntityPool;
+
+import java.util.Arrays;
+
+// Toggleable on screen diagnostics: frame time percentiles, update/render split,
+// GL draw calls / texture binds / shader switches, batch flushes, obstacle
+// count, entity pool or entity world counters, sound voices, input latency,
+// stress test progress and heap use.
+// Text is rebuilt a couple of times per second into a BitmapFontCache,
+// not every frame, so the overlay itself doesn't add garbage or layout work.
+public class PerformanceOverlay {
+
+    private static final int FRAME_SAMPLES = 240; // ~4 seconds at 60 fps
+    private static final float REFRESH_INTERVAL = 0.5f; // seconds
+    private static final float FONT_SCALE = 0.5f; // HUD font is big, overlay text half its size
+    private static final long NANOS_PER_MILLI = 1000000L;
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+
+    // == attributes
+    private final GLProfiler profiler;
+    private final BitmapFontCache cache;
+    private final StringBuilder text = new StringBuilder(256);
+    private final float x;
+    private final float y;
+    private final float width;
+
+    // frame times in milliseconds, ring buffer
+    private final float[] frameTimes = new float[FRAME_SAMPLES];
+    private final float[] sortedFrameTimes = new float[FRAME_SAMPLES];
+    private int frameIndex;
+    private int frameCount;
+
+    private boolean visible;
+    private float refreshTimer = REFRESH_INTERVAL;
+
+    // last frame
+    private long updateNanos;
+    private long renderNanos;
+    private int drawCalls;
+    private int textureBindings;
+    private int shaderSwitches;
+    private int batchRenderCalls;
+    private int lastTotalRenderCalls;
+
+    private int obstacleCount;
+    private AudioService audio;
+    private EntityWorld entityWorld;
+    private InputLatency inputLatency;
+    private StressRamp stressRamp;
+
+    // == constructors
+    // x, y is the top left of the text in HUD world units
+    public PerformanceOverlay(BitmapFont font, float x, float y, float width) {
+        this.profiler = new GLProfiler(Gdx.graphics);
+        this.cache = font.newFontCache();
+        this.x = x;
+        this.y = y;
+        this.width = width;
+    }
+
+    // == public methods
+    public void toggle() {
+        visible = !visible;
+
+        // the profiler wraps every GL call, only pay for it while shown
+        if (visible) {
+            profiler.reset();
+            profiler.enable();
+            refreshTimer = REFRESH_INTERVAL;
+        } else {
+            profiler.disable();
+        }
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public void setUpdateNanos(long updateNanos) {
+        this.updateNanos = updateNanos;
+    }
+
+    public void setRenderNanos(long renderNanos) {
+        this.renderNanos = renderNanos;
+    }
+
+    public void setObstacleCount(int obstacleCount) {
+        this.obstacleCount = obstacleCount;
+    }
+
+    public void setAudio(AudioService audio) {
+        this.audio = audio;
+    }
+
+    public void setEntityWorld(EntityWorld entityWorld) {
+        this.entityWorld = entityWorld;
+    }
+
+    public void setInputLatency(InputLatency inputLatency) {
+        this.inputLatency = inputLatency;
+    }
+
+    public void setStressRamp(StressRamp stressRamp) {
+        this.stressRamp = stressRamp;
+    }
+
+    // call once per frame after all rendering
+    public void endFrame(float deltaTime, SpriteBatch batch) {
+        frameTimes[frameIndex] = deltaTime * 1000f;
+        frameIndex = (frameIndex + 1) % FRAME_SAMPLES;
+        frameCount = Math.min(frameCount + 1, FRAME_SAMPLES);
+
+        // renderCalls resets on every begin(), the running total doesn't
+        batchRenderCalls = batch.totalRenderCalls - lastTotalRenderCalls;
+        lastTotalRenderCalls = batch.totalRenderCalls;
+
+        if (!visible) {
+            return;
+        }
+
+        drawCalls = profiler.getDrawCalls();
+        textureBindings = profiler.getTextureBindings();
+        shaderSwitches = profiler.getShaderSwitches();
+        profiler.reset();
+
+        refreshTimer += deltaTime;
+        if (refreshTimer >= REFRESH_INTERVAL) {
+            refreshTimer = 0f;
+            rebuildText();
+        }
+    }
+
+    // batch must be begun with the HUD camera
+    public void draw(Batch batch) {
+        if (visible) {
+            cache.draw(batch);
+        }
+    }
+
+    public void dispose() {
+        profiler.disable();
+    }
+
+    // == private methods
+    private void rebuildText() {
+        System.arraycopy(frameTimes, 0, sortedFrameTimes, 0, frameCount);
+        Arrays.sort(sortedFrameTimes, 0, frameCount);
+
+        text.setLength(0);
+
+        text.append("FPS ").append(Gdx.graphics.getFramesPerSecond()).append('\n');
+
+        text.append("P50 ");
+        appendMillis(percentile(0.50f));
+        text.append(" P95 ");
+        appendMillis(percentile(0.95f));
+        text.append(" P99 ");
+        appendMillis(percentile(0.99f));
+        text.append('\n');
+
+        text.append("UPDATE ");
+        appendMillis((float) updateNanos / NANOS_PER_MILLI);
+        text.append(" RENDER ");
+        appendMillis((float) renderNanos / NANOS_PER_MILLI);
+        text.append('\n');
+
+        text.append("DRAWS ").append(drawCalls)
+                .append(" BINDS ").append(textureBindings)
+                .append(" SHADERS ").append(shaderSwitches).append('\n');
+
+        text.append("BATCH FLUSHES ").append(batchRenderCalls).append('\n');
+
+        text.append("OBSTACLES ").append(obstacleCount).append('\n');
+
+        // a miss is an allocation, should stay 0 once the pools are prewarmed
+        if (GameConfig.OBSTACLE_FIELD == ObstacleFieldType.ACTORS) {
+            Array<EntityPool<?>> pools = EntityPools.getAll();
+            for (int i = 0; i < pools.size; i++) {
+                EntityPool<?> pool = pools.get(i);
+                text.append(pool.getName())
+                        .append(" USE ").append(pool.getInUse())
+                        .append(" PEAK ").append(pool.getPeakInUse())
+                        .append(" FREE ").append(pool.getFree())
+                        .append(" MISS ").append(pool.getMisses()).append('\n');
+            }
+        }
+
+        // a grow is an allocation, should stop once the peak has been reached
+        if (entityWorld != null) {
+            text.append("ENTITIES ").append(entityWorld.size())
+                    .append(" PEAK ").append(entityWorld.getPeakSize())
+                    .append(" FREE ").append(entityWorld.getFreeCount())
+                    .append(" REUSE ").append(entityWorld.getReuses())
+                    .append(" CAP ").append(entityWorld.getCapacity())
+                    .append(" GROW ").append(entityWorld.getGrows()).append('\n');
+        }
+
+        // dropped and stolen climb when hits come faster than the voice budget
+        if (audio != null) {
+            text.append("VOICES ").append(audio.getActiveVoices()).append('/').append(audio.getMaxVoices())
+                    .append(" PLAYED ").append(audio.getPlayed())
+                    .append(" DROP ").append(audio.getDropped())
+                    .append(" STOLEN ").append(audio.getStolen()).append('\n');
+        }
+
+        if (inputLatency != null) {
+            text.append("INPUT LAG P50 ");
+            appendMillis(inputLatency.percentile(0.50f));
+            text.append(" P95 ");
+            appendMillis(inputLatency.percentile(0.95f));
+            text.append('\n');
+        }
+
+        if (stressRamp != null) {
+            text.append("STRESS ").append(stressRamp.getObstaclesPerSecond()).append("/S ")
+                    .append(stressRamp.isFinished() ? "DONE" : "RAMPING")
+                    .append(" SUSTAINED ").append(stressRamp.getSustainableCount()).append('\n');
+        }
+
+        text.append("HEAP ").append((int) (Gdx.app.getJavaHeap() / BYTES_PER_MB))
+                .append(" MB NATIVE ").append((int) (Gdx.app.getNativeHeap() / BYTES_PER_MB))
+                .append(" MB");
+
+        // font data is shared with the HUD, scale only while laying out our cache
+        BitmapFont.BitmapFontData data = cache.getFont().getData();
+        float scaleX = data.scaleX;
+        float scaleY = data.scaleY;
+        data.setScale(FONT_SCALE);
+        cache.setText(text, x, y, 0, text.length(), width, Align.left, false);
+        data.setScale(scaleX, scaleY);
+    }
+
+    private float percentile(float fraction) {
+        if (frameCount == 0) {
+            return 0f;
+        }
+
+        int index = Math.min(frameCount - 1, (int) (fraction * frameCount));
+        return sortedFrameTimes[index];
+    }
+
+    // two decimals without going through Float.toString
+    private void appendMillis(float millis) {
+        int hundredths = Math.round(millis * 100f);
+        text.append(hundredths / 100).append('.').append(hundredths % 100, 2);
+    }
+}
@@ -0,0 +1,127 @@
+package com.staticvoid.obstacle.util.debug;
+
+import com.badlogic.gdx.utils.Logger;
+
+// Turns stress mode into a scaling benchmark.
+// The spawn rate goes up step by step. Each step first lets the obstacle count
+// settle (the newest obstacles have to reach the bottom before spawning and
+// expiring balance out), then averages frame work time and obstacle count.
+// The first step over the frame budget ends the ramp, the step before it is
+// the sustainable obstacle count and the rate falls back to it.
+//
+// Work time is the frame's own CPU time, not the frame delta, so a vsync
+// capped 60 fps doesn't hide how much headroom is left.
+public class StressRamp {
+
+    private static final Logger log =
+            new Logger(StressRamp.class.getName(), Logger.DEBUG);
+
+    private static final int MAX_OBSTACLES_PER_SECOND = 1 << 16;
+    private static final float NANOS_PER_MILLI = 1000000f;
+
+    // == attributes
+    private final float rampFactor;
+    private final float budgetMillis;
+    private final float settleSeconds;
+    private final float measureSeconds;
+
+    private int obstaclesPerSecond;
+
+    private float stepTime;
+    private long workNanos;
+    private long obstacleSum;
+    private int frames;
+
+    private int sustainableRate;
+    private int sustainableCount;
+    private float sustainableMillis;
+    private boolean finished;
+
+    // == constructors
+    public StressRamp(int startObstaclesPerSecond, float rampFactor, float budgetMillis,
+                      float settleSeconds, float measureSeconds) {
+        this.obstaclesPerSecond = Math.max(1, startObstaclesPerSecond);
+        this.rampFactor = rampFactor;
+        this.budgetMillis = budgetMillis;
+        this.settleSeconds = settleSeconds;
+        this.measureSeconds = measureSeconds;
+    }
+
+    // == public methods
+    // call once per frame, workNanos is the time the frame spent updating and rendering
+    public void frame(float deltaTime, long workNanos, int obstacleCount) {
+        if (finished) {
+            return;
+        }
+
+        stepTime += deltaTime;
+        if (stepTime < settleSeconds) {
+            return;
+        }
+
+        this.workNanos += workNanos;
+        obstacleSum += obstacleCount;
+        frames++;
+
+        if (stepTime >= settleSeconds + measureSeconds) {
+            endStep();
+        }
+    }
+
+    // what the simulation should spawn now
+    public int getObstaclesPerSecond() {
+        return obstaclesPerSecond;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    // average live obstacles of the last step within budget, 0 until one was
+    public int getSustainableCount() {
+        return sustainableCount;
+    }
+
+    public int getSustainableRate() {
+        return sustainableRate;
+    }
+
+    public void logReport() {
+        log.debug((finished ? "Stress test finished" : "Stress test stopped while ramping")
+                + ", sustainable obstacles= " + sustainableCount
+                + " at " + sustainableRate + "/s, "
+                + sustainableMillis + " ms of " + budgetMillis + " ms budget");
+    }
+
+    // == private methods
+    private void endStep() {
+        float averageMillis = workNanos / NANOS_PER_MILLI / frames;
+        int averageCount = (int) (obstacleSum / frames);
+
+        log.debug("Stress step " + obstaclesPerSecond + "/s obstacles= " + averageCount
+                + " frame work= " + averageMillis + " ms");
+
+        if (averageMillis > budgetMillis) {
+            finished = true;
+        } else {
+            sustainableRate = obstaclesPerSecond;
+            sustainableCount = averageCount;
+            sustainableMillis = averageMillis;
+
+            obstaclesPerSecond = Math.max(obstaclesPerSecond + 1,
+                    Math.round(obstaclesPerSecond * rampFactor));
+            finished = obstaclesPerSecond > MAX_OBSTACLES_PER_SECOND;
+        }
+
+        if (finished) {
+            // hold at the last rate that fit, or the start rate if none did
+            obstaclesPerSecond = sustainableRate > 0 ? sustainableRate : obstaclesPerSecond;
+            logReport();
+        }
+
+        stepTime = 0f;
+        this.workNanos = 0;
+        obstacleSum = 0;
+        frames = 0;
+    }
+}
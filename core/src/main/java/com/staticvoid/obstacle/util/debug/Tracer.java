@@ -0,0 +1,193 @@
+package com.staticvoid.obstacle.util.debug;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.staticvoid.obstacle.config.GameConfig;
+
+// Span tracing for frame phases, asset loads, screen transitions and startup.
+// Spans go into a preallocated ring buffer (the oldest are overwritten), so
+// tracing a frame allocates nothing and costs two nanoTime() calls per span.
+// dumpChromeTrace() writes the buffer as Chrome trace_event JSON, open it
+// in chrome://tracing or ui.perfetto.dev to see where a slow frame went.
+//
+// Render thread only, except markStartup() which the launcher calls before
+// the application (and its render thread) is created.
+// Span names are stored by reference, pass constants in per frame code
+// and only build names inside if (GameConfig.TRACING).
+public final class Tracer {
+
+    // power of two, ~50 s of frames, a single unused slot with tracing off
+    private static final int CAPACITY = GameConfig.TRACING ? 16384 : 1;
+    private static final int MASK = CAPACITY - 1;
+    private static final int MAX_DEPTH = 16;
+
+    private static final long INSTANT = -1;
+
+    // == attributes
+    private static final String[] names = new String[CAPACITY];
+    private static final long[] startNanos = new long[CAPACITY];
+    private static final long[] durationNanos = new long[CAPACITY]; // INSTANT for markers
+
+    private static final String[] openNames = new String[MAX_DEPTH];
+    private static final long[] openStartNanos = new long[MAX_DEPTH];
+    private static int depth;
+
+    private static long count; // spans ever recorded, the newest CAPACITY are kept
+
+    private static long startupNanos = -1;
+    private static boolean startupDone;
+
+    // == constructors
+    private Tracer() {
+        // static only
+    }
+
+    // == public methods
+    // start of the process as far as tracing goes, the first call wins
+    public static void markStartup() {
+        if (startupNanos < 0) {
+            startupNanos = TimeUtils.nanoTime();
+        }
+    }
+
+    // closes the startup span once, at the first frame that counts as started
+    public static void startupFinished(String name) {
+        if (!GameConfig.TRACING || startupDone || startupNanos < 0) {
+            return;
+        }
+
+        startupDone = true;
+        complete(name, startupNanos, TimeUtils.nanoTime());
+    }
+
+    // spans nest, every begin() needs its end()
+    public static void begin(String name) {
+        if (!GameConfig.TRACING) {
+            return;
+        }
+
+        // too deep means a missing end(), drop it rather than grow
+        if (depth < MAX_DEPTH) {
+            openNames[depth] = name;
+            openStartNanos[depth] = TimeUtils.nanoTime();
+        }
+        depth++;
+    }
+
+    public static void end() {
+        if (!GameConfig.TRACING || depth == 0) {
+            return;
+        }
+
+        depth--;
+        if (depth < MAX_DEPTH) {
+            complete(openNames[depth], openStartNanos[depth], TimeUtils.nanoTime());
+            openNames[depth] = null;
+        }
+    }
+
+    // span measured elsewhere, times in TimeUtils.nanoTime() time
+    public static void complete(String name, long beginNanos, long endNanos) {
+        if (!GameConfig.TRACING) {
+            return;
+        }
+
+        record(name, beginNanos, endNanos - beginNanos);
+    }
+
+    // zero length marker, e.g. an asset finished loading
+    public static void instant(String name) {
+        if (!GameConfig.TRACING) {
+            return;
+        }
+
+        record(name, TimeUtils.nanoTime(), INSTANT);
+    }
+
+    public static int size() {
+        return (int) Math.min(count, CAPACITY);
+    }
+
+    // spans lost to the ring wrapping around
+    public static long getOverwritten() {
+        return Math.max(0, count - CAPACITY);
+    }
+
+    // spans oldest first, timestamps in microseconds since markStartup()
+    // (or the oldest span without it)
+    public static String toChromeTrace() {
+        int size = size();
+        int first = (int) ((count - size) & MASK);
+        long baseNanos = startupNanos >= 0 ? startupNanos : startNanos[first];
+
+        StringBuilder json = new StringBuilder(128 + size * 96);
+        json.append("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+
+        for (int i = 0; i < size; i++) {
+            int index = (first + i) & MASK;
+            if (i > 0) {
+                json.append(',');
+            }
+
+            json.append("\n{\"name\":\"");
+            appendEscaped(json, names[index]);
+            json.append("\",\"cat\":\"game\",\"pid\":1,\"tid\":1,\"ts\":");
+            appendMicros(json, startNanos[index] - baseNanos);
+
+            if (durationNanos[index] == INSTANT) {
+                json.append(",\"ph\":\"i\",\"s\":\"t\"}");
+            } else {
+                json.append(",\"ph\":\"X\",\"dur\":");
+                appendMicros(json, durationNanos[index]);
+                json.append('}');
+            }
+        }
+
+        json.append("\n]}\n");
+        return json.toString();
+    }
+
+    public static void dumpChromeTrace(FileHandle file) {
+        file.writeString(toChromeTrace(), false, "UTF-8");
+    }
+
+    // == private methods
+    private static void record(String name, long beginNanos, long nanos) {
+        int index = (int) (count & MASK);
+        names[index] = name;
+        startNanos[index] = beginNanos;
+        durationNanos[index] = nanos;
+        count++;
+    }
+
+    // no String.format on GWT, three decimals by hand
+    private static void appendMicros(StringBuilder json, long nanos) {
+        if (nanos < 0) {
+            json.append('-');
+            nanos = -nanos;
+        }
+
+        long fraction = nanos % 1000;
+        json.append(nanos / 1000).append('.');
+        if (fraction < 100) {
+            json.append('0');
+        }
+        if (fraction < 10) {
+            json.append('0');
+        }
+        json.append(fraction);
+    }
+
+    private static void appendEscaped(StringBuilder json, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < ' ') {
+                json.append(' ');
+            } else {
+                json.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.staticvoid.obstacle.util.pool;
+
+import com.badlogic.gdx.utils.Pool;
+
+// Pool that creates its objects through a factory instead of reflection
+// (Pools.get) and counts what happens to them. After prewarm() a steady
+// game should never miss: every miss is an allocation during play.
+public class EntityPool<T> extends Pool<T> {
+
+    public interface Factory<T> {
+        T create();
+    }
+
+    // == attributes
+    private final String name;
+    private final Factory<T> factory;
+    private final int prewarmCount;
+
+    private int obtained;
+    private int freed;
+    private int misses;
+    private int discarded;
+    private int peakInUse;
+
+    // == constructors
+    // prewarmCount objects are created by prewarm(), at most max free objects are kept
+    public EntityPool(String name, Factory<T> factory, int prewarmCount, int max) {
+        super(prewarmCount, max);
+        this.name = name;
+        this.factory = factory;
+        this.prewarmCount = prewarmCount;
+    }
+
+    // == public methods
+    // tops the free list up to prewarmCount, call while loading
+    public void prewarm() {
+        fill(prewarmCount - getFree());
+    }
+
+    @Override
+    public T obtain() {
+        if (getFree() == 0) {
+            misses++;
+        }
+
+        obtained++;
+        peakInUse = Math.max(peakInUse, getInUse());
+        return super.obtain();
+    }
+
+    @Override
+    public void free(T object) {
+        super.free(object);
+        freed++;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getObtained() {
+        return obtained;
+    }
+
+    public int getFreed() {
+        return freed;
+    }
+
+    // obtains that had to create a new object
+    public int getMisses() {
+        return misses;
+    }
+
+    // frees dropped because max free objects were already kept
+    public int getDiscarded() {
+        return discarded;
+    }
+
+    public int getInUse() {
+        return obtained - freed;
+    }
+
+    public int getPeakInUse() {
+        return peakInUse;
+    }
+
+    // == protected methods
+    @Override
+    protected T newObject() {
+        return factory.create();
+    }
+
+    @Override
+    protected void discard(T object) {
+        super.discard(object);
+        discarded++;
+    }
+}
@@ -1,8 +1,38 @@
 package com.staticvoid.avoid.desktop;
 
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.ObjectFloatMap;
 
-// used to pack assets
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Packs the raw images into atlases, run with gradlew lwjgl2:packAssets.
+// Every atlas group is hashed (file names, file contents and packer settings),
+// a group whose hash matches the manifest and whose atlas exists is skipped,
+// the others are packed in parallel. Afterwards the fill ratio of every atlas
+// page is printed, the share of the page covered by packed regions.
+// Groups marked compressed also get an ETC1 variant, see Etc1AtlasPacker.
+// usage: AssetPacker [--force]
 public class AssetPacker {
 
     private static final boolean DRAW_DEBUG_OUTLINE = false;
@@ -10,7 +40,23 @@ public class AssetPacker {
     private static final String RAW_ASSETS_PATH = "lwjgl2/assets-raw";
     private static final String ASSETS_PATH = "assets";
 
-    public static void main(String[] args) {
+    // build output, a fresh checkout packs everything once
+    private static final String MANIFEST_PATH = "lwjgl2/build/atlas-manifest.properties";
+
+    private static final String FORCE_ARGUMENT = "--force";
+
+    // raw folder, output folder, atlas name, ETC1 variant
+    private static final AtlasGroup[] GROUPS = {
+            new AtlasGroup("gameplay", "gameplay", "gameplay", true),
+            // process assets for the options, menu, highscore
+            // screen user interfaces, every skin image has alpha, ETC1 gains nothing
+            new AtlasGroup("skin", "ui", "uiSkin", false)
+            // new AtlasGroup("ui", "ui", "ui", false) // extension .atlas by default
+    };
+
+    public static void main(String[] args) throws Exception {
+        boolean force = Arrays.asList(args).contains(FORCE_ARGUMENT);
+
         TexturePacker.Settings settings = new TexturePacker.Settings();
         settings.debug = DRAW_DEBUG_OUTLINE;
 //        settings.atlasExtension = ".pack";
@@ -18,27 +64,211 @@ public class AssetPacker {
 //        settings.maxWidth = 484; // account for padding
 //        settings.maxHeight = 804;
 
-        TexturePacker.process(settings,
-                RAW_ASSETS_PATH + "/gameplay",
-                ASSETS_PATH + "/gameplay",
-                "gameplay"
-        );
-
-//        TexturePacker.process(settings,
-//                RAW_ASSETS_PATH + "/ui",
-//                ASSETS_PATH + "/ui",
-//                "ui"
-//        ); // extension .atlas by default
-
-        // process assets for the options, menu, highscore
-        // screen user interfaces
-        TexturePacker.process(
-            settings,
-                RAW_ASSETS_PATH + "/skin",
-                ASSETS_PATH + "/ui",
-                "uiSkin"
-        );
+        // any settings change invalidates every group
+        String settingsJson = new Json().toJson(settings);
+
+        File manifestFile = new File(MANIFEST_PATH);
+        Properties manifest = readManifest(manifestFile);
+
+        List<AtlasGroup> stale = new ArrayList<AtlasGroup>();
+        for (AtlasGroup group : GROUPS) {
+            group.hash = hash(group, settingsJson);
+
+            if (!force && group.hash.equals(manifest.getProperty(group.packName))
+                    && group.outputsExist()) {
+                System.out.println(group.packName + " unchanged, skipped");
+            } else {
+                stale.add(group);
+            }
+        }
+
+        pack(stale, settings);
+
+        for (AtlasGroup group : stale) {
+            manifest.setProperty(group.packName, group.hash);
+        }
+        if (!stale.isEmpty()) {
+            writeManifest(manifestFile, manifest);
+        }
+
+        for (AtlasGroup group : GROUPS) {
+            printFillReport(group.packName, group.atlasFile());
+            if (group.compressed) {
+                printFillReport(group.packName, group.etc1AtlasFile());
+            }
+        }
     }
     // TODO: remember for production to remove all unnecessary assets
     // (i.e. stuff that was packed into atlas format)
+
+    // == private static methods
+    // groups write to different files, one thread each
+    private static void pack(List<AtlasGroup> groups, TexturePacker.Settings settings)
+            throws InterruptedException, ExecutionException {
+        if (groups.isEmpty()) {
+            return;
+        }
+
+        // pixmap decoding and ETC1 encoding
+        GdxNativesLoader.load();
+
+        int threads = Math.min(groups.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (AtlasGroup group : groups) {
+                // the packer's settings aren't shared between threads
+                TexturePacker.Settings groupSettings = new TexturePacker.Settings(settings);
+                futures.add(executor.submit(() -> {
+                    long start = System.nanoTime();
+                    TexturePacker.process(groupSettings,
+                            RAW_ASSETS_PATH + "/" + group.rawPath,
+                            ASSETS_PATH + "/" + group.outputPath,
+                            group.packName
+                    );
+                    if (group.compressed) {
+                        Etc1AtlasPacker.pack(groupSettings,
+                                new File(RAW_ASSETS_PATH, group.rawPath),
+                                new File(ASSETS_PATH, group.outputPath),
+                                group.packName
+                        );
+                    }
+                    System.out.println(group.packName + " packed in "
+                            + (System.nanoTime() - start) / 1000000L + " ms");
+                    return null;
+                }));
+            }
+
+            // rethrows the first failure
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // relative paths and contents of every file below the raw folder, in a fixed order
+    private static String hash(AtlasGroup group, String settingsJson)
+            throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(group.packName.getBytes(StandardCharsets.UTF_8));
+        digest.update(group.outputPath.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) (group.compressed ? 1 : 0));
+        digest.update(settingsJson.getBytes(StandardCharsets.UTF_8));
+
+        File root = new File(RAW_ASSETS_PATH, group.rawPath);
+        if (!root.isDirectory()) {
+            throw new IOException("Raw asset folder not found: " + root.getPath());
+        }
+
+        List<File> files = new ArrayList<File>();
+        collectFiles(root, files);
+
+        for (File file : files) {
+            String relativePath = root.toPath().relativize(file.toPath()).toString().replace('\\', '/');
+            digest.update(relativePath.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(Files.readAllBytes(file.toPath()));
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static void collectFiles(File directory, List<File> files) {
+        File[] children = directory.listFiles();
+        if (children == null) {
+            return;
+        }
+
+        // listFiles order depends on the file system
+        Arrays.sort(children);
+        for (File child : children) {
+            if (child.isDirectory()) {
+                collectFiles(child, files);
+            } else {
+                files.add(child);
+            }
+        }
+    }
+
+    // region area over page area, padding and empty space are what's left
+    private static void printFillReport(String packName, File atlasFile) {
+        if (!atlasFile.exists()) {
+            return;
+        }
+
+        FileHandle packFile = new FileHandle(atlasFile);
+        TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(packFile, packFile.parent(), false);
+
+        ObjectFloatMap<TextureAtlas.TextureAtlasData.Page> usedArea =
+                new ObjectFloatMap<TextureAtlas.TextureAtlasData.Page>();
+        for (TextureAtlas.TextureAtlasData.Region region : data.getRegions()) {
+            usedArea.getAndIncrement(region.page, 0f, (float) region.width * region.height);
+        }
+
+        Array<TextureAtlas.TextureAtlasData.Page> pages = data.getPages();
+        for (TextureAtlas.TextureAtlasData.Page page : pages) {
+            float pageArea = page.width * page.height;
+            float fill = pageArea > 0f ? usedArea.get(page, 0f) / pageArea : 0f;
+
+            System.out.println(String.format(Locale.ROOT, "%-10s %-24s %5.0fx%-5.0f fill %5.1f%%",
+                    packName, page.textureFile.name(), page.width, page.height, fill * 100f));
+        }
+    }
+
+    private static Properties readManifest(File file) throws IOException {
+        Properties manifest = new Properties();
+        if (file.exists()) {
+            try (InputStream input = Files.newInputStream(file.toPath())) {
+                manifest.load(input);
+            }
+        }
+        return manifest;
+    }
+
+    private static void writeManifest(File file, Properties manifest) throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Can't create " + parent.getPath());
+        }
+
+        try (OutputStream output = Files.newOutputStream(file.toPath())) {
+            manifest.store(output, "AssetPacker content hashes, delete to repack everything");
+        }
+    }
+
+    private static class AtlasGroup {
+
+        private final String rawPath;
+        private final String outputPath;
+        private final String packName;
+        private final boolean compressed;
+        private String hash;
+
+        AtlasGroup(String rawPath, String outputPath, String packName, boolean compressed) {
+            this.rawPath = rawPath;
+            this.outputPath = outputPath;
+            this.packName = packName;
+            this.compressed = compressed;
+        }
+
+        File atlasFile() {
+            // extension .atlas by default
+            return new File(ASSETS_PATH + "/" + outputPath, packName + ".atlas");
+        }
+
+        File etc1AtlasFile() {
+            return new File(ASSETS_PATH + "/" + outputPath, packName + Etc1AtlasPacker.SUFFIX + ".atlas");
+        }
+
+        boolean outputsExist() {
+            return atlasFile().exists() && (!compressed || etc1AtlasFile().exists());
+        }
+    }
 }
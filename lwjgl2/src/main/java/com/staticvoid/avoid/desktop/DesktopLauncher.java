@@ -6,15 +6,21 @@ import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
 //import com.staticvoid.avoid.ObstacleAvoidGame;
 import com.staticvoid.obstacle.ObstacleAvoidGame;
 import com.staticvoid.obstacle.config.GameConfig;
+import com.staticvoid.obstacle.util.debug.Tracer;
 
 /** Launches the desktop (LWJGL) application. */
 public class DesktopLauncher {
 	public static void main(String[] args) {
+		// before the render thread exists, startup spans are measured from here
+		Tracer.markStartup();
 		createApplication();
 	}
 
 	private static LwjglApplication createApplication() {
-		return new LwjglApplication(new ObstacleAvoidGame(), getDefaultConfiguration());
+		ObstacleAvoidGame game = new ObstacleAvoidGame();
+		// desktop is where replays get verified (lwjgl2:verifyReplays)
+		game.setRecordReplays(true);
+		return new LwjglApplication(game, getDefaultConfiguration());
 	}
 
 	private static LwjglApplicationConfiguration getDefaultConfiguration() {
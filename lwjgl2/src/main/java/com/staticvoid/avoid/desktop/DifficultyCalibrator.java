@@ -0,0 +1,339 @@
+package com.staticvoid.avoid.desktop;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.staticvoid.obstacle.config.DifficultyLevel;
+import com.staticvoid.obstacle.config.GameConfig;
+import com.staticvoid.obstacle.simulation.GameSimulation;
+import com.staticvoid.obstacle.simulation.ObstacleStore;
+
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Plays lots of headless games with an autopilot on every core and prints
+// survival time and score distributions per obstacle speed and spawn interval.
+// usage: DifficultyCalibrator [games=100000] [autopilot=dodge|random]
+//        [speeds=6,9,10.8] [spawnTimes=0.25] [seed=1]
+// without speeds every DifficultyLevel is run at its configured speed.
+//
+// Games run on ObstacleStore, it isn't pooled so simulations on different
+// threads share nothing. Every game is seeded from its index, results don't
+// depend on the thread count.
+public class DifficultyCalibrator {
+
+    private static final int TICK_RATE = GameConfig.SIMULATION_TICK_RATE;
+    private static final int MAX_SECONDS = 300; // games still alive are cut off here
+    private static final int MAX_TICKS = MAX_SECONDS * TICK_RATE;
+    private static final int TICKS_PER_BUCKET = TICK_RATE / 10; // 0.1 s survival buckets
+    private static final int MAX_SCORE = 1000;
+    private static final int GAMES_PER_TASK = 256;
+
+    public static void main(String[] args) {
+        int games = 100000;
+        String autopilot = "dodge";
+        float[] speeds = null;
+        float[] spawnTimes = {GameConfig.OBSTACLE_SPAWN_TIME};
+        long seed = 1L;
+
+        for (String arg : args) {
+            String[] keyValue = arg.split("=", 2);
+            String key = keyValue[0];
+            String value = keyValue.length > 1 ? keyValue[1] : "";
+
+            if ("games".equals(key)) {
+                games = Integer.parseInt(value);
+            } else if ("autopilot".equals(key)) {
+                autopilot = value;
+            } else if ("speeds".equals(key)) {
+                speeds = parseFloats(value);
+            } else if ("spawnTimes".equals(key)) {
+                spawnTimes = parseFloats(value);
+            } else if ("seed".equals(key)) {
+                seed = Long.parseLong(value);
+            } else {
+                throw new IllegalArgumentException("Unknown argument " + arg);
+            }
+        }
+
+        Array<Setting> settings = new Array<Setting>();
+        for (float spawnTime : spawnTimes) {
+            if (speeds == null) {
+                for (DifficultyLevel level : DifficultyLevel.values()) {
+                    settings.add(new Setting(level, level.getObstacleSpeed(), spawnTime));
+                }
+            } else {
+                for (float speed : speeds) {
+                    settings.add(new Setting(closestLevel(speed), speed, spawnTime));
+                }
+            }
+        }
+
+        // a pool of its own, the common pool leaves one core to the caller
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        System.out.println(games + " games per setting, " + autopilot + " autopilot, "
+                + pool.getParallelism() + " threads");
+
+        long start = System.nanoTime();
+        long totalTicks = 0;
+
+        try {
+            for (Setting setting : settings) {
+                Stats stats = pool.invoke(new GamesTask(setting, autopilot, seed, 0, games));
+                totalTicks += stats.ticks;
+                System.out.println(setting + "  " + stats);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println(String.format(Locale.ROOT, "%d games, %d ticks in %.2f s (%.0f ticks/s)",
+                (long) games * settings.size, totalTicks, seconds, totalTicks / seconds));
+    }
+
+    // == private static methods
+    private static float[] parseFloats(String value) {
+        String[] parts = value.split(",");
+        float[] floats = new float[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            floats[i] = Float.parseFloat(parts[i].trim());
+        }
+        return floats;
+    }
+
+    private static DifficultyLevel closestLevel(float speed) {
+        DifficultyLevel closest = DifficultyLevel.EASY;
+        for (DifficultyLevel level : DifficultyLevel.values()) {
+            if (Math.abs(level.getObstacleSpeed() - speed) < Math.abs(closest.getObstacleSpeed() - speed)) {
+                closest = level;
+            }
+        }
+        return closest;
+    }
+
+    private static Autopilot newAutopilot(String name, long seed) {
+        if ("random".equals(name)) {
+            return new RandomWalkAutopilot(seed);
+        }
+        if ("dodge".equals(name)) {
+            return new DodgeAutopilot();
+        }
+        throw new IllegalArgumentException("Unknown autopilot " + name);
+    }
+
+    // splits the game index range until it is small enough to play
+    private static class GamesTask extends RecursiveTask<Stats> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Setting setting;
+        private final String autopilot;
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        GamesTask(Setting setting, String autopilot, long seed, int from, int to) {
+            this.setting = setting;
+            this.autopilot = autopilot;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Stats compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                Stats stats = new Stats();
+                for (int game = from; game < to; game++) {
+                    play(seed * 31 + game, stats);
+                }
+                return stats;
+            }
+
+            int middle = (from + to) >>> 1;
+            GamesTask left = new GamesTask(setting, autopilot, seed, from, middle);
+            left.fork();
+            Stats stats = new GamesTask(setting, autopilot, seed, middle, to).compute();
+            stats.add(left.join());
+            return stats;
+        }
+
+        private void play(long gameSeed, Stats stats) {
+            ObstacleStore obstacles = new ObstacleStore();
+            GameSimulation simulation = new GameSimulation(setting.level,
+                    setting.obstacleSpeed, setting.obstacleSpawnTime,
+                    gameSeed, TICK_RATE, obstacles);
+            Autopilot pilot = newAutopilot(autopilot, ~gameSeed);
+
+            int ticks = 0;
+            while (!simulation.isGameOver() && ticks < MAX_TICKS) {
+                simulation.setPlayerInput(pilot.input(simulation, obstacles));
+                simulation.update();
+                simulation.getEvents().clear(); // nobody listens, keep the ring empty
+                ticks++;
+            }
+
+            stats.record(ticks, simulation.getScore(), !simulation.isGameOver());
+        }
+    }
+
+    private static class Setting {
+
+        private final DifficultyLevel level;
+        private final float obstacleSpeed;
+        private final float obstacleSpawnTime;
+
+        Setting(DifficultyLevel level, float obstacleSpeed, float obstacleSpawnTime) {
+            this.level = level;
+            this.obstacleSpeed = obstacleSpeed;
+            this.obstacleSpawnTime = obstacleSpawnTime;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-6s speed %5.2f spawn %.3f s",
+                    level, obstacleSpeed, obstacleSpawnTime);
+        }
+    }
+
+    // histograms merge by adding, so tasks never share one
+    private static class Stats {
+
+        private final long[] survival = new long[MAX_TICKS / TICKS_PER_BUCKET + 1];
+        private final long[] scores = new long[MAX_SCORE + 1];
+        private long games;
+        private long ticks;
+        private long scoreSum;
+        private long capped;
+
+        void record(int ticks, int score, boolean cappedGame) {
+            survival[ticks / TICKS_PER_BUCKET]++;
+            scores[Math.min(score, MAX_SCORE)]++;
+            games++;
+            this.ticks += ticks;
+            scoreSum += score;
+            if (cappedGame) {
+                capped++;
+            }
+        }
+
+        void add(Stats other) {
+            for (int i = 0; i < survival.length; i++) {
+                survival[i] += other.survival[i];
+            }
+            for (int i = 0; i < scores.length; i++) {
+                scores[i] += other.scores[i];
+            }
+            games += other.games;
+            ticks += other.ticks;
+            scoreSum += other.scoreSum;
+            capped += other.capped;
+        }
+
+        @Override
+        public String toString() {
+            float secondsPerBucket = (float) TICKS_PER_BUCKET / TICK_RATE;
+            return String.format(Locale.ROOT,
+                    "survival s mean %6.2f p10 %6.1f p50 %6.1f p90 %6.1f"
+                            + "  score mean %6.1f p10 %4d p50 %4d p90 %4d  capped %d",
+                    (double) ticks / games / TICK_RATE,
+                    percentile(survival, 0.1f) * secondsPerBucket,
+                    percentile(survival, 0.5f) * secondsPerBucket,
+                    percentile(survival, 0.9f) * secondsPerBucket,
+                    (double) scoreSum / games,
+                    percentile(scores, 0.1f),
+                    percentile(scores, 0.5f),
+                    percentile(scores, 0.9f),
+                    capped);
+        }
+
+        private int percentile(long[] histogram, float fraction) {
+            long target = (long) Math.ceil(fraction * games);
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= target) {
+                    return i;
+                }
+            }
+            return histogram.length - 1;
+        }
+    }
+
+    private interface Autopilot {
+        // quantized input for the next tick, see GameSimulation.quantizeInput
+        int input(GameSimulation simulation, ObstacleStore obstacles);
+    }
+
+    // holds a random direction for a random number of ticks
+    private static class RandomWalkAutopilot implements Autopilot {
+
+        private static final int MIN_HOLD_TICKS = 5;
+        private static final int MAX_HOLD_TICKS = 30;
+
+        private final RandomXS128 random;
+        private int input;
+        private int holdTicks;
+
+        RandomWalkAutopilot(long seed) {
+            random = new RandomXS128(seed);
+        }
+
+        @Override
+        public int input(GameSimulation simulation, ObstacleStore obstacles) {
+            if (holdTicks-- <= 0) {
+                input = (random.nextInt(3) - 1) * GameSimulation.MAX_INPUT;
+                holdTicks = MIN_HOLD_TICKS + random.nextInt(MAX_HOLD_TICKS - MIN_HOLD_TICKS + 1);
+            }
+            return input;
+        }
+    }
+
+    // steps sideways away from the lowest obstacle that is about to land on the player
+    private static class DodgeAutopilot implements Autopilot {
+
+        private static final float LOOK_AHEAD = 2f; // world units above the player
+        private static final float MARGIN = 0.1f; // world units
+
+        @Override
+        public int input(GameSimulation simulation, ObstacleStore obstacles) {
+            float playerRadius = simulation.getPlayer().getCollisionShape().radius;
+            float playerX = simulation.getPlayer().getX() + playerRadius;
+            float playerBottom = simulation.getPlayer().getY();
+            float playerTop = playerBottom + 2 * playerRadius;
+
+            for (int i = 0; i < obstacles.size(); i++) {
+                float radius = obstacles.getRadius(i);
+                float y = obstacles.getY(i);
+
+                if (y + 2 * radius < playerBottom) {
+                    continue; // already passed
+                }
+                if (y > playerTop + LOOK_AHEAD) {
+                    break; // spawn order is height order, everything after is higher
+                }
+
+                float dx = playerX - (obstacles.getX(i) + radius);
+                if (Math.abs(dx) < playerRadius + radius + MARGIN) {
+                    return dodge(dx, playerX, playerRadius);
+                }
+            }
+
+            return 0;
+        }
+
+        private int dodge(float dx, float playerX, float playerRadius) {
+            boolean goRight = dx >= 0;
+
+            // cornered, go through the other side
+            if (goRight && playerX + playerRadius >= GameConfig.WORLD_WIDTH - MARGIN) {
+                goRight = false;
+            } else if (!goRight && playerX - playerRadius <= MARGIN) {
+                goRight = true;
+            }
+
+            return goRight ? GameSimulation.MAX_INPUT : -GameSimulation.MAX_INPUT;
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.staticvoid.avoid.desktop;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.glutils.ETC1;
+import com.badlogic.gdx.graphics.glutils.KTXTextureData;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPOutputStream;
+import java.util.Arrays;
+import java.util.Locale;
+
+// Writes the ETC1 variant of an atlas group next to the PNG one.
+// Images without transparent pixels are packed onto pages stored as ETC1 ZKTX
+// files (4 bits per pixel on the GPU instead of 32), ETC1 has no alpha so the
+// images that need it go onto RGBA8888 PNG pages of the same .atlas file.
+// Region names are the same in both variants, code using the atlas doesn't
+// care which one AssetDescriptors picked.
+//
+// Every KTX page is read back the way KTXTextureData loads it and decoded
+// again, so a broken page fails the packing, not the game. Runs anywhere the
+// desktop natives do, no GPU or external encoder needed.
+//
+// Raw folders must be flat, sub folders aren't split.
+class Etc1AtlasPacker {
+
+    static final String SUFFIX = "-etc1";
+
+    private static final String ALPHA_SUFFIX = "-alpha";
+    private static final String KTX_EXTENSION = ".zktx"; // gzipped KTX, the page is mostly flat colour
+    private static final float MIN_PSNR = 30f; // dB, measured over the packed regions
+
+    // KTX 1.1 header, see khronos.org/opengles/sdk/tools/KTX/file_format_spec
+    private static final byte[] KTX_IDENTIFIER = {
+            (byte) 0xAB, 'K', 'T', 'X', ' ', '1', '1', (byte) 0xBB, '\r', '\n', 0x1A, '\n'
+    };
+    private static final int KTX_HEADER_SIZE = 64;
+    private static final int KTX_ENDIANNESS = 0x04030201;
+    private static final int GL_RGB = 0x1907;
+
+    private Etc1AtlasPacker() {
+    }
+
+    // call GdxNativesLoader.load() first, encoding and decoding are native
+    static void pack(TexturePacker.Settings settings, File rawDirectory, File outputDirectory,
+                     String packName) throws IOException {
+        String etc1Name = packName + SUFFIX;
+        String alphaName = etc1Name + ALPHA_SUFFIX;
+
+        File workDirectory = Files.createTempDirectory(etc1Name).toFile();
+        try {
+            File opaqueRaw = new File(workDirectory, "opaque");
+            File alphaRaw = new File(workDirectory, "alpha");
+            File packed = new File(workDirectory, "packed");
+            int opaqueCount = split(rawDirectory, opaqueRaw, alphaRaw);
+
+            StringBuilder atlas = new StringBuilder();
+
+            if (opaqueCount > 0) {
+                TexturePacker.process(new TexturePacker.Settings(settings),
+                        opaqueRaw.getPath(), packed.getPath(), etc1Name);
+                atlas.append(compressPages(new File(packed, etc1Name + settings.atlasExtension)));
+            }
+
+            if (hasImages(alphaRaw)) {
+                TexturePacker.process(new TexturePacker.Settings(settings),
+                        alphaRaw.getPath(), packed.getPath(), alphaName);
+                File alphaAtlas = new File(packed, alphaName + settings.atlasExtension);
+                atlas.append('\n').append(new String(Files.readAllBytes(alphaAtlas.toPath()), StandardCharsets.UTF_8));
+                Files.delete(alphaAtlas.toPath());
+            }
+
+            Files.write(new File(packed, etc1Name + settings.atlasExtension).toPath(),
+                    atlas.toString().getBytes(StandardCharsets.UTF_8));
+
+            replaceOutput(packed, outputDirectory, etc1Name);
+        } finally {
+            deleteRecursively(workDirectory);
+        }
+    }
+
+    // == private static methods
+    // copies the raw images into the opaque or the alpha folder, returns the opaque count
+    private static int split(File rawDirectory, File opaqueRaw, File alphaRaw) throws IOException {
+        if (!opaqueRaw.mkdirs() || !alphaRaw.mkdirs()) {
+            throw new IOException("Can't create " + opaqueRaw.getParent());
+        }
+
+        File[] files = rawDirectory.listFiles(File::isFile);
+        if (files == null) {
+            throw new IOException("Raw asset folder not found: " + rawDirectory.getPath());
+        }
+
+        int opaqueCount = 0;
+        for (File file : files) {
+            BufferedImage image = ImageIO.read(file);
+
+            if (image == null) {
+                // pack.json and friends apply to both halves
+                Files.copy(file.toPath(), new File(opaqueRaw, file.getName()).toPath());
+                Files.copy(file.toPath(), new File(alphaRaw, file.getName()).toPath());
+            } else if (isOpaque(image)) {
+                Files.copy(file.toPath(), new File(opaqueRaw, file.getName()).toPath());
+                opaqueCount++;
+            } else {
+                Files.copy(file.toPath(), new File(alphaRaw, file.getName()).toPath());
+            }
+        }
+        return opaqueCount;
+    }
+
+    private static boolean isOpaque(BufferedImage image) {
+        Raster alpha = image.getAlphaRaster();
+        if (alpha == null) {
+            return true;
+        }
+
+        int[] row = new int[image.getWidth()];
+        for (int y = 0; y < image.getHeight(); y++) {
+            alpha.getSamples(0, y, row.length, 1, 0, row);
+            for (int value : row) {
+                if (value != 255) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasImages(File directory) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return false;
+        }
+
+        for (File file : files) {
+            String name = file.getName().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".png") || name.endsWith(".jpg") || name.endsWith(".jpeg")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // turns every PNG page of the atlas into a ZKTX page, returns the rewritten atlas text
+    private static String compressPages(File atlasFile) throws IOException {
+        FileHandle packFile = new FileHandle(atlasFile);
+        TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(packFile, packFile.parent(), false);
+        // leading new line so the first page name matches like the others
+        String text = "\n" + new String(Files.readAllBytes(atlasFile.toPath()), StandardCharsets.UTF_8);
+
+        for (TextureAtlas.TextureAtlasData.Page page : data.getPages()) {
+            File png = page.textureFile.file();
+            File ktx = new File(png.getParentFile(), page.textureFile.nameWithoutExtension() + KTX_EXTENSION);
+
+            writeKtx(png, ktx);
+            validate(png, ktx, data, page);
+            Files.delete(png.toPath());
+
+            // a page starts with its image file name on a line of its own
+            text = text.replace("\n" + png.getName() + "\n", "\n" + ktx.getName() + "\n");
+        }
+
+        Files.delete(atlasFile.toPath());
+
+        // the loader ignores the format of KTX pages, keep the atlas honest anyway
+        return text.replace("format: RGBA8888", "format: RGB888");
+    }
+
+    private static void writeKtx(File png, File ktx) throws IOException {
+        Pixmap rgb = loadRgb(png);
+        ETC1.ETC1Data etc1 = ETC1.encodeImage(rgb);
+
+        try {
+            int imageSize = ETC1.getCompressedDataSize(rgb.getWidth(), rgb.getHeight());
+            ByteBuffer file = ByteBuffer.allocate(KTX_HEADER_SIZE + 4 + imageSize).order(ByteOrder.LITTLE_ENDIAN);
+
+            file.put(KTX_IDENTIFIER);
+            file.putInt(KTX_ENDIANNESS);
+            file.putInt(0); // glType, 0 for compressed data
+            file.putInt(1); // glTypeSize
+            file.putInt(0); // glFormat, 0 for compressed data
+            file.putInt(ETC1.ETC1_RGB8_OES); // glInternalFormat
+            file.putInt(GL_RGB); // glBaseInternalFormat
+            file.putInt(rgb.getWidth());
+            file.putInt(rgb.getHeight());
+            file.putInt(0); // pixelDepth
+            file.putInt(0); // numberOfArrayElements
+            file.putInt(1); // numberOfFaces
+            file.putInt(1); // numberOfMipmapLevels
+            file.putInt(0); // bytesOfKeyValueData
+
+            // ETC1 blocks are 8 bytes, the image is always 4 byte aligned
+            file.putInt(imageSize);
+            ByteBuffer compressed = etc1.compressedData.duplicate();
+            compressed.position(etc1.dataOffset);
+            compressed.limit(etc1.dataOffset + imageSize);
+            file.put(compressed);
+
+            // zktx is the KTX file behind its length, gzipped, see KTXTextureData.prepare()
+            try (DataOutputStream output = new DataOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(ktx.toPath())))) {
+                output.writeInt(file.capacity());
+                output.write(file.array());
+            }
+        } finally {
+            etc1.dispose();
+            rgb.dispose();
+        }
+    }
+
+    // reads the ZKTX back like the game does, checks the header and decodes it again
+    private static void validate(File png, File ktx, TextureAtlas.TextureAtlasData data,
+                                 TextureAtlas.TextureAtlasData.Page page) throws IOException {
+        KTXTextureData textureData = new KTXTextureData(new FileHandle(ktx), false);
+        textureData.prepare();
+
+        if (textureData.getGlInternalFormat() != ETC1.ETC1_RGB8_OES
+                || textureData.getWidth() != (int) page.width
+                || textureData.getHeight() != (int) page.height
+                || textureData.getNumberOfFaces() != 1
+                || textureData.getNumberOfMipMapLevels() != 1) {
+            throw new IOException("Invalid KTX page " + ktx.getPath());
+        }
+
+        Pixmap original = loadRgb(png);
+        ETC1.ETC1Data etc1 = new ETC1.ETC1Data(textureData.getWidth(), textureData.getHeight(),
+                textureData.getData(0, 0), 0);
+        Pixmap decoded = ETC1.decodeImage(etc1, Pixmap.Format.RGB888);
+
+        try {
+            float psnr = psnr(original, decoded, data, page);
+            long gpuBytes = ETC1.getCompressedDataSize(textureData.getWidth(), textureData.getHeight());
+            long rgbaBytes = (long) textureData.getWidth() * textureData.getHeight() * 4;
+
+            System.out.println(String.format(Locale.ROOT,
+                    "%-20s %dx%d ETC1 %d KB on the GPU (RGBA8888 %d KB), file %d KB, PSNR %.1f dB",
+                    ktx.getName(), textureData.getWidth(), textureData.getHeight(),
+                    gpuBytes / 1024, rgbaBytes / 1024, ktx.length() / 1024, psnr));
+
+            if (psnr < MIN_PSNR) {
+                throw new IOException("ETC1 page " + ktx.getName() + " too lossy, PSNR " + psnr + " dB");
+            }
+        } finally {
+            original.dispose();
+            decoded.dispose();
+            textureData.disposePreparedData();
+        }
+    }
+
+    // over the packed regions only, empty page space would flatter the result
+    private static float psnr(Pixmap original, Pixmap decoded, TextureAtlas.TextureAtlasData data,
+                              TextureAtlas.TextureAtlasData.Page page) {
+        double squaredError = 0;
+        long samples = 0;
+
+        for (TextureAtlas.TextureAtlasData.Region region : data.getRegions()) {
+            if (region.page != page) {
+                continue;
+            }
+
+            boolean rotated = region.degrees == 90;
+            int width = rotated ? region.height : region.width;
+            int height = rotated ? region.width : region.height;
+
+            for (int y = region.top; y < region.top + height; y++) {
+                for (int x = region.left; x < region.left + width; x++) {
+                    int a = original.getPixel(x, y);
+                    int b = decoded.getPixel(x, y);
+
+                    // RGBA8888 ints, alpha byte is always 255
+                    for (int shift = 8; shift < 32; shift += 8) {
+                        int difference = ((a >>> shift) & 0xFF) - ((b >>> shift) & 0xFF);
+                        squaredError += difference * difference;
+                    }
+                    samples += 3;
+                }
+            }
+        }
+
+        if (squaredError == 0) {
+            return Float.POSITIVE_INFINITY;
+        }
+        double meanSquaredError = squaredError / samples;
+        return (float) (10 * Math.log10(255 * 255 / meanSquaredError));
+    }
+
+    private static Pixmap loadRgb(File png) {
+        Pixmap source = new Pixmap(new FileHandle(png));
+        Pixmap rgb = new Pixmap(source.getWidth(), source.getHeight(), Pixmap.Format.RGB888);
+        rgb.setBlending(Pixmap.Blending.None);
+        rgb.drawPixmap(source, 0, 0);
+        source.dispose();
+        return rgb;
+    }
+
+    // old pages of this variant go first, a repack may write fewer of them
+    private static void replaceOutput(File packed, File outputDirectory, String etc1Name) throws IOException {
+        if (!outputDirectory.isDirectory() && !outputDirectory.mkdirs()) {
+            throw new IOException("Can't create " + outputDirectory.getPath());
+        }
+
+        File[] old = outputDirectory.listFiles((directory, name) -> name.startsWith(etc1Name));
+        if (old != null) {
+            for (File file : old) {
+                Files.delete(file.toPath());
+            }
+        }
+
+        File[] files = packed.listFiles();
+        Arrays.sort(files);
+        for (File file : files) {
+            Files.move(file.toPath(), new File(outputDirectory, file.getName()).toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,62 @@
+package com.staticvoid.avoid.desktop;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.staticvoid.obstacle.replay.Replay;
+import com.staticvoid.obstacle.replay.ReplayRunner;
+
+import java.io.File;
+
+// plays recorded runs back headless and checks they end on the
+// recorded tick and score, usage: ReplayVerifier <file or directory>...
+public class ReplayVerifier {
+
+    private static final String DEFAULT_PATH = "replays";
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    public static void main(String[] args) {
+        Array<FileHandle> files = new Array<FileHandle>();
+        if (args.length == 0) {
+            collect(new FileHandle(new File(DEFAULT_PATH)), files);
+        }
+        for (String arg : args) {
+            collect(new FileHandle(new File(arg)), files);
+        }
+
+        int mismatches = 0;
+        long totalTicks = 0;
+        long start = System.nanoTime();
+
+        for (FileHandle file : files) {
+            Replay replay = Replay.read(file);
+            ReplayRunner.Result result = ReplayRunner.run(replay);
+            totalTicks += result.getTicks();
+
+            if (!result.matches()) {
+                mismatches++;
+                System.out.println("MISMATCH " + file.path()
+                        + " recorded " + replay.getTickCount() + " ticks score " + replay.getFinalScore()
+                        + ", played " + result.getTicks() + " ticks score " + result.getScore());
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / NANOS_PER_SECOND;
+        System.out.println(files.size + " replays, " + mismatches + " mismatches, "
+                + totalTicks + " ticks in " + seconds + " s ("
+                + (long) (files.size / Math.max(seconds, 1e-9)) + " replays/s)");
+
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void collect(FileHandle file, Array<FileHandle> files) {
+        if (file.isDirectory()) {
+            for (FileHandle child : file.list()) {
+                collect(child, files);
+            }
+        } else if (Replay.FILE_EXTENSION.equals(file.extension())) {
+            files.add(file);
+        }
+    }
+}